@@ -1,6 +1,10 @@
 package com.rossotti.basketball;
 
+import com.rossotti.basketball.business.model.StandingsBusiness;
+import com.rossotti.basketball.business.service.SeasonStandingBusService;
+import com.rossotti.basketball.integration.GatewayRangeService;
 import com.rossotti.basketball.integration.GatewayService;
+import com.rossotti.basketball.integration.PipelineResumeService;
 import com.rossotti.basketball.integration.ServiceProperties;
 import com.rossotti.basketball.jpa.model.Game;
 import com.rossotti.basketball.util.DateTimeConverter;
@@ -9,6 +13,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.integration.annotation.IntegrationComponentScan;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 @SpringBootApplication
@@ -16,9 +21,58 @@ import java.util.List;
 public class ScoreGame {
 
 	public static void main(String[] args) {
+		if (Boolean.getBoolean("accumulator.daemon.enabled")) {
+			System.out.println("\n" + "begin scoreGame daemon");
+			SpringApplication.run(ScoreGame.class, args);
+			return;
+		}
+
+		if (Boolean.getBoolean("accumulator.pipeline.resume")) {
+			System.out.println("\n" + "begin resume of pending messages");
+			ConfigurableApplicationContext ctx = SpringApplication.run(ScoreGame.class, args);
+			PipelineResumeService pipelineResumeService = ctx.getBean(PipelineResumeService.class);
+			boolean drained = pipelineResumeService.awaitDrained(ctx.getEnvironment().getProperty("accumulator.pipeline.resumeTimeoutSeconds", Long.class, 3600L));
+			System.out.println("end resume, " + (drained ? "all pending messages processed" : "pending messages remain"));
+			ctx.close();
+			return;
+		}
+
+		if (System.getProperty("rebuildSeasons") != null) {
+			List<LocalDate> seasonDates = new ArrayList<>();
+			for (String seasonDate : System.getProperty("rebuildSeasons").split(",")) {
+				if (!DateTimeConverter.isDate(seasonDate.trim())) {
+					System.out.println("Invalid rebuildSeasons argument");
+					System.exit(1);
+				}
+				seasonDates.add(DateTimeConverter.getLocalDate(seasonDate.trim()));
+			}
+			System.out.println("\n" + "begin standings rebuild for seasons " + seasonDates);
+			ConfigurableApplicationContext ctx = SpringApplication.run(ScoreGame.class, args);
+			SeasonStandingBusService seasonStandingBusService = ctx.getBean(SeasonStandingBusService.class);
+			List<StandingsBusiness> seasons = seasonStandingBusService.rebuildSeasons(seasonDates);
+			long completed = seasons.stream().filter(StandingsBusiness::isCompleted).count();
+			System.out.println("end standings rebuild, " + completed + " of " + seasons.size() + " seasons rebuilt");
+			ctx.close();
+			return;
+		}
+
 		ServiceProperties serviceProperties = new ServiceProperties();
+		String fromDate = null;
+		String toDate = null;
 
-		if (System.getProperty("gameDate") != null) {
+		if (System.getProperty("fromDate") != null || System.getProperty("toDate") != null) {
+			fromDate = System.getProperty("fromDate");
+			toDate = System.getProperty("toDate");
+			if (fromDate == null || toDate == null || !DateTimeConverter.isDate(fromDate) || !DateTimeConverter.isDate(toDate)) {
+				System.out.println("Invalid fromDate/toDate argument");
+				System.exit(1);
+			}
+			else if (DateTimeConverter.getLocalDate(fromDate).isAfter(DateTimeConverter.getLocalDate(toDate))) {
+				System.out.println("fromDate must not be after toDate");
+				System.exit(1);
+			}
+		}
+		else if (System.getProperty("gameDate") != null) {
 			String gameDate = System.getProperty("gameDate");
 			if (gameDate.isEmpty()) {
 				serviceProperties.setGameDate(DateTimeConverter.getStringDate(LocalDate.now().minusDays(1)));
@@ -34,7 +88,7 @@ public class ScoreGame {
 			}
 		}
 		else {
-			System.out.println("Need to supply gameDate argument");
+			System.out.println("Need to supply gameDate or fromDate/toDate arguments");
 			System.exit(1);
 		}
 
@@ -52,16 +106,24 @@ public class ScoreGame {
 			System.exit(1);
 		}
 
+		String gameDates = fromDate != null ? "fromDate = " + fromDate + " toDate = " + toDate : "gameDate = " + serviceProperties.getGameDate();
 		if (serviceProperties.getGameTeam().isEmpty()) {
-			System.out.println("\n" + "begin gatewayService for gameDate = " + serviceProperties.getGameDate());
+			System.out.println("\n" + "begin gatewayService for " + gameDates);
 		}
 		else {
-			System.out.println("\n" + "begin gatewayService for gameDate = " + serviceProperties.getGameDate() + " and gameTeam = " + serviceProperties.getGameTeam());
+			System.out.println("\n" + "begin gatewayService for " + gameDates + " and gameTeam = " + serviceProperties.getGameTeam());
 		}
 
 		ConfigurableApplicationContext ctx = SpringApplication.run(ScoreGame.class, args);
-		GatewayService gatewayService = ctx.getBean(GatewayService.class);
-		List<Game> games = gatewayService.processGames(serviceProperties);
+		List<Game> games;
+		if (fromDate != null) {
+			GatewayRangeService gatewayRangeService = ctx.getBean(GatewayRangeService.class);
+			games = gatewayRangeService.processGames(fromDate, toDate, serviceProperties.getGameTeam());
+		}
+		else {
+			GatewayService gatewayService = ctx.getBean(GatewayService.class);
+			games = gatewayService.processGames(serviceProperties);
+		}
 
 		if (games != null && games.size() > 0) {
 			System.out.println("end gatewayService, processed " + games.size() + " games" + "\n");
@@ -0,0 +1,11 @@
+package com.rossotti.basketball.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "accumulator.daemon.enabled", havingValue = "true")
+public class SchedulingConfig {
+}
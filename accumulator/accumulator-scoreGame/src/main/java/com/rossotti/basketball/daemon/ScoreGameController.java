@@ -0,0 +1,42 @@
+package com.rossotti.basketball.daemon;
+
+import com.rossotti.basketball.jpa.model.Game;
+import com.rossotti.basketball.util.DateTimeConverter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@RestController
+@RequestMapping("/games")
+@ConditionalOnProperty(name = "accumulator.daemon.enabled", havingValue = "true")
+public class ScoreGameController {
+	private final ScoreGameScheduler scoreGameScheduler;
+
+	@Autowired
+	public ScoreGameController(ScoreGameScheduler scoreGameScheduler) {
+		this.scoreGameScheduler = scoreGameScheduler;
+	}
+
+	@PostMapping("/score")
+	public ResponseEntity<Map<String, Object>> scoreGames(@RequestParam String gameDate, @RequestParam(required = false, defaultValue = "") String gameTeam) {
+		if (!DateTimeConverter.isDate(gameDate)) {
+			return ResponseEntity.badRequest().build();
+		}
+		List<Game> games = scoreGameScheduler.scoreGames(gameDate, gameTeam);
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("gameDate", gameDate);
+		result.put("gameTeam", gameTeam);
+		result.put("gameCount", games.size());
+		result.put("completedCount", games.stream().filter(Objects::nonNull).filter(Game::isCompleted).count());
+		return ResponseEntity.ok(result);
+	}
+}
@@ -0,0 +1,71 @@
+package com.rossotti.basketball.daemon;
+
+import com.rossotti.basketball.app.service.GameAppService;
+import com.rossotti.basketball.integration.GatewayService;
+import com.rossotti.basketball.integration.ServiceProperties;
+import com.rossotti.basketball.jpa.model.Game;
+import com.rossotti.basketball.util.DateTimeConverter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+@Service
+@ConditionalOnProperty(name = "accumulator.daemon.enabled", havingValue = "true")
+public class ScoreGameScheduler {
+	private final Environment env;
+	private final GatewayService gatewayService;
+	private final GameAppService gameAppService;
+	private final Logger logger = LoggerFactory.getLogger(ScoreGameScheduler.class);
+
+	@Autowired
+	public ScoreGameScheduler(Environment env, GatewayService gatewayService, GameAppService gameAppService) {
+		this.env = env;
+		this.gatewayService = gatewayService;
+		this.gameAppService = gameAppService;
+	}
+
+	@Scheduled(cron = "${accumulator.daemon.cron:0 */15 * * * *}")
+	public void pollGames() {
+		int lookbackDays = env.getProperty("accumulator.daemon.lookbackDays", Integer.class, 1);
+		int minGameMinutes = env.getProperty("accumulator.daemon.minGameMinutes", Integer.class, 150);
+		//game times are US/Eastern
+		LocalDateTime now = LocalDateTime.now(ZoneId.of("US/Eastern"));
+		LocalDate today = now.toLocalDate();
+		for (LocalDate gameDate = today.minusDays(lookbackDays); !gameDate.isAfter(today); gameDate = gameDate.plusDays(1)) {
+			List<Game> games = gameAppService.findByAsOfDate(gameDate);
+			long scheduled = games.stream().filter(Game::isScheduled).count();
+			if (scheduled > 0) {
+				//box scores are only fetched once every scheduled game of the date can be final
+				long inProgress = games.stream()
+					.filter(Game::isScheduled)
+					.filter(game -> game.getGameDateTime().plusMinutes(minGameMinutes).isAfter(now))
+					.count();
+				if (inProgress > 0) {
+					logger.info("pollGames: " + DateTimeConverter.getStringDate(gameDate) + " scheduledCount: " + scheduled + " inProgressCount: " + inProgress + ": wait for next poll");
+				}
+				else {
+					logger.info("pollGames: " + DateTimeConverter.getStringDate(gameDate) + " scheduledCount: " + scheduled);
+					scoreGames(DateTimeConverter.getStringDate(gameDate), "");
+				}
+			}
+		}
+	}
+
+	public synchronized List<Game> scoreGames(String gameDate, String gameTeam) {
+		ServiceProperties serviceProperties = new ServiceProperties();
+		serviceProperties.setGameDate(gameDate);
+		serviceProperties.setGameTeam(gameTeam == null ? "" : gameTeam);
+		List<Game> games = gatewayService.processGames(serviceProperties);
+		logger.info("scoreGames: " + gameDate + " processed " + games.size() + " games");
+		return games;
+	}
+}
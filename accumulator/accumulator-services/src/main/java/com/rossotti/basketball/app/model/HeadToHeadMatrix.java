@@ -0,0 +1,138 @@
+package com.rossotti.basketball.app.model;
+
+import com.rossotti.basketball.jpa.model.Standing;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Season records for the teams in a day's standings, indexed 0..N-1.
+ * headToHeadWon[t][o] is games team t won against opponent o, headToHeadPlayed[t][o] games they played.
+ */
+public class HeadToHeadMatrix {
+	private final Map<String, Integer> teamIndexes;
+	private final String[] teamKeys;
+	private final int[] gamesWon;
+	private final int[] gamesPlayed;
+	private final int[][] headToHeadWon;
+	private final int[][] headToHeadPlayed;
+	private boolean unknownTeams;
+
+	public HeadToHeadMatrix(List<Standing> standings) {
+		this(standings.stream().map(standing -> standing.getTeam().getTeamKey()).toArray(String[]::new));
+		for (int i = 0; i < teamKeys.length; i++) {
+			gamesWon[i] = standings.get(i).getGamesWon();
+			gamesPlayed[i] = standings.get(i).getGamesPlayed();
+		}
+	}
+
+	public HeadToHeadMatrix(String[] teamKeys) {
+		int teams = teamKeys.length;
+		this.teamKeys = teamKeys;
+		teamIndexes = new HashMap<>(teams * 2);
+		gamesWon = new int[teams];
+		gamesPlayed = new int[teams];
+		headToHeadWon = new int[teams][teams];
+		headToHeadPlayed = new int[teams][teams];
+		for (int i = 0; i < teams; i++) {
+			teamIndexes.put(teamKeys[i], i);
+		}
+	}
+
+	public void setRecord(int team, int won, int played) {
+		gamesWon[team] = won;
+		gamesPlayed[team] = played;
+	}
+
+	public void addGame(String teamKey, String opptTeamKey, boolean teamWon, boolean opptWon) {
+		Integer team = teamIndexes.get(teamKey);
+		Integer oppt = teamIndexes.get(opptTeamKey);
+		if (team == null || oppt == null) {
+			unknownTeams = true;
+			return;
+		}
+		headToHeadPlayed[team][oppt]++;
+		headToHeadPlayed[oppt][team]++;
+		if (teamWon) {
+			headToHeadWon[team][oppt]++;
+		}
+		if (opptWon) {
+			headToHeadWon[oppt][team]++;
+		}
+	}
+
+	public void addHeadToHead(String teamKey, String opptTeamKey, int won, int played) {
+		Integer team = teamIndexes.get(teamKey);
+		Integer oppt = teamIndexes.get(opptTeamKey);
+		if (team == null || oppt == null) {
+			unknownTeams = true;
+			return;
+		}
+		headToHeadWon[team][oppt] += won;
+		headToHeadPlayed[team][oppt] += played;
+	}
+
+	public boolean matchesStandings() {
+		if (unknownTeams) {
+			return false;
+		}
+		for (int t = 0; t < teamKeys.length; t++) {
+			int won = 0;
+			int played = 0;
+			for (int o = 0; o < teamKeys.length; o++) {
+				won += headToHeadWon[t][o];
+				played += headToHeadPlayed[t][o];
+			}
+			if (won != gamesWon[t] || played != gamesPlayed[t]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Opponent and opponent's opponent games won/played per team key, excluding head to head games, in the
+	 * StandingRecord layout returned by StandingAppService.calculateStrengthOfSchedule.
+	 */
+	public Map<String, StandingRecord> calculateStrengthOfSchedule() {
+		int teams = teamKeys.length;
+
+		//opponent games won/played summed over every game played
+		int[] opptWon = new int[teams];
+		int[] opptPlayed = new int[teams];
+		for (int t = 0; t < teams; t++) {
+			int[] played = headToHeadPlayed[t];
+			for (int o = 0; o < teams; o++) {
+				opptWon[t] += played[o] * gamesWon[o];
+				opptPlayed[t] += played[o] * gamesPlayed[o];
+			}
+		}
+
+		//each game against an opponent excludes every head to head game from that opponent's record
+		Map<String, StandingRecord> strengthOfSchedule = new HashMap<>(teams * 2);
+		for (int t = 0; t < teams; t++) {
+			int[] played = headToHeadPlayed[t];
+			int opptGamesWon = 0;
+			int opptGamesPlayed = 0;
+			int opptOpptGamesWon = 0;
+			int opptOpptGamesPlayed = 0;
+			for (int o = 0; o < teams; o++) {
+				int games = played[o];
+				if (games == 0) {
+					continue;
+				}
+				opptGamesWon += games * (gamesWon[o] - headToHeadWon[o][t]);
+				opptGamesPlayed += games * (gamesPlayed[o] - headToHeadPlayed[o][t]);
+				opptOpptGamesWon += games * (opptWon[o] - headToHeadPlayed[o][t] * gamesWon[t]);
+				opptOpptGamesPlayed += games * (opptPlayed[o] - headToHeadPlayed[o][t] * gamesPlayed[t]);
+			}
+			if (opptGamesWon > opptGamesPlayed) {
+				//head to head wins exceed opponent wins, should only occur until wins start to occur
+				opptGamesWon = opptGamesPlayed;
+			}
+			strengthOfSchedule.put(teamKeys[t], new StandingRecord(opptGamesWon, opptGamesPlayed, opptOpptGamesWon, opptOpptGamesPlayed));
+		}
+		return strengthOfSchedule;
+	}
+}
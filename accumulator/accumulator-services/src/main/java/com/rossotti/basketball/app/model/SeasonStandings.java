@@ -0,0 +1,233 @@
+package com.rossotti.basketball.app.model;
+
+import com.rossotti.basketball.jpa.model.BoxScore;
+import com.rossotti.basketball.jpa.model.Game;
+import com.rossotti.basketball.jpa.model.Standing;
+import com.rossotti.basketball.jpa.model.Team;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Running season records for a fixed set of teams, indexed 0..N-1, updated one completed game at a time.
+ * Standings for a date are emitted from the records and head to head matrix without revisiting earlier games.
+ */
+public class SeasonStandings {
+	private final Team[] teams;
+	private final Map<String, Integer> teamIndexes;
+	private final HeadToHeadMatrix headToHeadMatrix;
+	private final int[] gamesWon;
+	private final int[] gamesLost;
+	private final int[] homeWins;
+	private final int[] homeLosses;
+	private final int[] awayWins;
+	private final int[] awayLosses;
+	private final int[] conferenceWins;
+	private final int[] conferenceLosses;
+	private final int[] pointsFor;
+	private final int[] pointsAgainst;
+	//positive for a winning streak, negative for a losing streak
+	private final int[] streak;
+	//last ten results, most recent in the low bit, 1 for a win
+	private final int[] lastTen;
+	private final int[] lastTenCount;
+
+	public SeasonStandings(List<Team> teams) {
+		int count = teams.size();
+		this.teams = teams.toArray(new Team[count]);
+		String[] teamKeys = new String[count];
+		teamIndexes = new HashMap<>(count * 2);
+		for (int i = 0; i < count; i++) {
+			teamKeys[i] = this.teams[i].getTeamKey();
+			teamIndexes.put(teamKeys[i], i);
+		}
+		headToHeadMatrix = new HeadToHeadMatrix(teamKeys);
+		gamesWon = new int[count];
+		gamesLost = new int[count];
+		homeWins = new int[count];
+		homeLosses = new int[count];
+		awayWins = new int[count];
+		awayLosses = new int[count];
+		conferenceWins = new int[count];
+		conferenceLosses = new int[count];
+		pointsFor = new int[count];
+		pointsAgainst = new int[count];
+		streak = new int[count];
+		lastTen = new int[count];
+		lastTenCount = new int[count];
+	}
+
+	public boolean addGame(Game game) {
+		if (!game.isCompleted()) {
+			return false;
+		}
+		BoxScore homeBoxScore = game.getBoxScoreHome();
+		BoxScore awayBoxScore = game.getBoxScoreAway();
+		Integer home = teamIndexes.get(homeBoxScore.getTeam().getTeamKey());
+		Integer away = teamIndexes.get(awayBoxScore.getTeam().getTeamKey());
+		if (home == null || away == null) {
+			return false;
+		}
+		boolean homeWon = homeBoxScore.getResult() == BoxScore.Result.Win;
+		int homePoints = getPoints(homeBoxScore);
+		int awayPoints = getPoints(awayBoxScore);
+		boolean conferenceGame = teams[home].getConference() == teams[away].getConference();
+
+		addResult(home, homeWon, homePoints, awayPoints, conferenceGame);
+		addResult(away, !homeWon, awayPoints, homePoints, conferenceGame);
+		if (homeWon) {
+			homeWins[home]++;
+			awayLosses[away]++;
+		}
+		else {
+			homeLosses[home]++;
+			awayWins[away]++;
+		}
+		headToHeadMatrix.addGame(teams[home].getTeamKey(), teams[away].getTeamKey(), homeWon, !homeWon);
+		return true;
+	}
+
+	public List<Standing> getStandings(LocalDate standingDate) {
+		for (int t = 0; t < teams.length; t++) {
+			headToHeadMatrix.setRecord(t, gamesWon[t], gamesWon[t] + gamesLost[t]);
+		}
+		Map<String, StandingRecord> strengthOfSchedule = headToHeadMatrix.calculateStrengthOfSchedule();
+		short[] rank = new short[teams.length];
+		float[] gamesBack = new float[teams.length];
+		rankConferences(rank, gamesBack);
+
+		List<Standing> standings = new ArrayList<>(teams.length);
+		for (int t = 0; t < teams.length; t++) {
+			int gamesPlayed = gamesWon[t] + gamesLost[t];
+			StandingRecord standingRecord = strengthOfSchedule.get(teams[t].getTeamKey());
+			Standing standing = new Standing();
+			standing.setTeam(teams[t]);
+			standing.setStandingDate(standingDate);
+			standing.setRank(rank[t]);
+			standing.setOrdinalRank(getOrdinal(rank[t]));
+			standing.setGamesWon((short) gamesWon[t]);
+			standing.setGamesLost((short) gamesLost[t]);
+			standing.setStreak(streak[t] == 0 ? "" : (streak[t] > 0 ? "W" : "L") + Math.abs(streak[t]));
+			standing.setStreakType(streak[t] == 0 ? "" : streak[t] > 0 ? "win" : "loss");
+			standing.setStreakTotal((short) Math.abs(streak[t]));
+			standing.setGamesBack(gamesBack[t]);
+			standing.setPointsFor((short) pointsFor[t]);
+			standing.setPointsAgainst((short) pointsAgainst[t]);
+			standing.setHomeWins((short) homeWins[t]);
+			standing.setHomeLosses((short) homeLosses[t]);
+			standing.setAwayWins((short) awayWins[t]);
+			standing.setAwayLosses((short) awayLosses[t]);
+			standing.setConferenceWins((short) conferenceWins[t]);
+			standing.setConferenceLosses((short) conferenceLosses[t]);
+			standing.setLastFive(getLastGames(t, 5));
+			standing.setLastTen(getLastGames(t, 10));
+			standing.setGamesPlayed((short) gamesPlayed);
+			standing.setPointsScoredPerGame(divide(pointsFor[t], gamesPlayed, 1));
+			standing.setPointsAllowedPerGame(divide(pointsAgainst[t], gamesPlayed, 1));
+			standing.setWinPercentage(divide(gamesWon[t], gamesPlayed, 3));
+			standing.setPointDifferential((short) (pointsFor[t] - pointsAgainst[t]));
+			standing.setPointDifferentialPerGame(divide(pointsFor[t] - pointsAgainst[t], gamesPlayed, 1));
+			standing.setOpptGamesWon(standingRecord.getGamesWon());
+			standing.setOpptGamesPlayed(standingRecord.getGamesPlayed());
+			standing.setOpptOpptGamesWon(standingRecord.getOpptGamesWon());
+			standing.setOpptOpptGamesPlayed(standingRecord.getOpptGamesPlayed());
+			standings.add(standing);
+		}
+		return standings;
+	}
+
+	private void addResult(int team, boolean won, int points, int opptPoints, boolean conferenceGame) {
+		if (won) {
+			gamesWon[team]++;
+			streak[team] = streak[team] > 0 ? streak[team] + 1 : 1;
+		}
+		else {
+			gamesLost[team]++;
+			streak[team] = streak[team] < 0 ? streak[team] - 1 : -1;
+		}
+		if (conferenceGame) {
+			if (won) {
+				conferenceWins[team]++;
+			}
+			else {
+				conferenceLosses[team]++;
+			}
+		}
+		pointsFor[team] += points;
+		pointsAgainst[team] += opptPoints;
+		lastTen[team] = ((lastTen[team] << 1) | (won ? 1 : 0)) & 0x3FF;
+		lastTenCount[team] = Math.min(lastTenCount[team] + 1, 10);
+	}
+
+	//rank within conference by win percentage, tied teams share a rank, games back from the conference leader
+	private void rankConferences(short[] rank, float[] gamesBack) {
+		Integer[] order = new Integer[teams.length];
+		for (int t = 0; t < teams.length; t++) {
+			order[t] = t;
+		}
+		Arrays.sort(order, Comparator.comparing((Integer t) -> teams[t].getConference(), Comparator.nullsFirst(Comparator.naturalOrder()))
+			.thenComparing(t -> winPercentage(t), Comparator.reverseOrder()));
+		int leader = -1;
+		int leaderPosition = 0;
+		for (int i = 0; i < order.length; i++) {
+			int t = order[i];
+			if (leader < 0 || teams[t].getConference() != teams[leader].getConference()) {
+				leader = t;
+				leaderPosition = i;
+				rank[t] = 1;
+			}
+			else {
+				int previous = order[i - 1];
+				rank[t] = winPercentage(t) == winPercentage(previous) ? rank[previous] : (short) (i - leaderPosition + 1);
+			}
+			gamesBack[t] = ((gamesWon[leader] - gamesWon[t]) + (gamesLost[t] - gamesLost[leader])) / 2f;
+		}
+	}
+
+	private double winPercentage(int team) {
+		int gamesPlayed = gamesWon[team] + gamesLost[team];
+		return gamesPlayed == 0 ? 0 : (double) gamesWon[team] / gamesPlayed;
+	}
+
+	private String getLastGames(int team, int games) {
+		int count = Math.min(lastTenCount[team], games);
+		int won = Integer.bitCount(lastTen[team] & ((1 << count) - 1));
+		return won + "-" + (count - won);
+	}
+
+	private int getPoints(BoxScore boxScore) {
+		if (boxScore.getBoxScoreStats() == null || boxScore.getBoxScoreStats().getPoints() == null) {
+			return 0;
+		}
+		return boxScore.getBoxScoreStats().getPoints();
+	}
+
+	private static float divide(int dividend, int divisor, int scale) {
+		if (divisor == 0) {
+			return 0;
+		}
+		return new BigDecimal(dividend).divide(new BigDecimal(divisor), scale, RoundingMode.HALF_UP).floatValue();
+	}
+
+	private static String getOrdinal(short rank) {
+		int mod100 = rank % 100;
+		int mod10 = rank % 10;
+		if (mod10 == 1 && mod100 != 11) {
+			return rank + "st";
+		}
+		if (mod10 == 2 && mod100 != 12) {
+			return rank + "nd";
+		}
+		if (mod10 == 3 && mod100 != 13) {
+			return rank + "rd";
+		}
+		return rank + "th";
+	}
+}
@@ -18,6 +18,10 @@ public class GameAppService {
 		this.gameJpaService = gameJpaService;
 	}
 
+	public Game findById(Long id) {
+		return gameJpaService.getById(id);
+	}
+
 	public List<Game> findByAsOfDate(LocalDate asOfDate) {
 		return gameJpaService.findByAsOfDate(asOfDate);
 	}
@@ -38,10 +42,18 @@ public class GameAppService {
 		return gameJpaService.findByTeamKeyAndAsOfDateSeason(teamKey, gameDate);
 	}
 
+	public List<Game> findByDateRange(LocalDate fromDate, LocalDate toDate) {
+		return gameJpaService.findByDateRange(fromDate, toDate);
+	}
+
 	public Game updateGame(Game game) {
 		return gameJpaService.update(game);
 	}
 
+	public Game completeGame(Game game) {
+		return gameJpaService.complete(game);
+	}
+
 	public Game createGame(Game game) {
 		return gameJpaService.create(game);
 	}
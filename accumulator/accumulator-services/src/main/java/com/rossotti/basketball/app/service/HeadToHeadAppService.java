@@ -0,0 +1,115 @@
+package com.rossotti.basketball.app.service;
+
+import com.rossotti.basketball.app.model.HeadToHeadMatrix;
+import com.rossotti.basketball.app.model.StandingRecord;
+import com.rossotti.basketball.jpa.model.BoxScore;
+import com.rossotti.basketball.jpa.model.Game;
+import com.rossotti.basketball.jpa.model.HeadToHead;
+import com.rossotti.basketball.jpa.model.Standing;
+import com.rossotti.basketball.jpa.service.GameJpaService;
+import com.rossotti.basketball.jpa.service.HeadToHeadJpaService;
+import com.rossotti.basketball.util.DateTimeConverter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Head to head records per game date, team and opponent, updated as each game completes.
+ * Strength of schedule is derived from the records summed through the standings date and the day's standings
+ * without walking the season's games, so any date of the season can be ranked or reranked.
+ */
+@Service
+public class HeadToHeadAppService {
+	private final HeadToHeadJpaService headToHeadJpaService;
+
+	private final GameJpaService gameJpaService;
+
+	private final Logger logger = LoggerFactory.getLogger(HeadToHeadAppService.class);
+
+	@Autowired
+	public HeadToHeadAppService(HeadToHeadJpaService headToHeadJpaService, GameJpaService gameJpaService) {
+		this.headToHeadJpaService = headToHeadJpaService;
+		this.gameJpaService = gameJpaService;
+	}
+
+	public void recordGame(Game game) {
+		if (!game.isCompleted()) {
+			return;
+		}
+		LocalDate gameDate = DateTimeConverter.getLocalDate(game.getGameDateTime());
+		String awayTeamKey = game.getBoxScoreAway().getTeam().getTeamKey();
+		String homeTeamKey = game.getBoxScoreHome().getTeam().getTeamKey();
+		boolean awayWon = game.getBoxScoreAway().getResult() == BoxScore.Result.Win;
+		headToHeadJpaService.recordGame(gameDate, awayTeamKey, homeTeamKey, awayWon);
+		headToHeadJpaService.recordGame(gameDate, homeTeamKey, awayTeamKey, !awayWon);
+	}
+
+	public List<HeadToHead> rebuildSeason(LocalDate asOfDate) {
+		Map<String, HeadToHead> headToHeads = new HashMap<>();
+		LocalDate seasonDate = DateTimeConverter.getLocalDateSeasonMin(asOfDate);
+		for (Game game : gameJpaService.findByDateRange(seasonDate, DateTimeConverter.getLocalDateSeasonMax(asOfDate))) {
+			if (game.isCompleted()) {
+				LocalDate gameDate = DateTimeConverter.getLocalDate(game.getGameDateTime());
+				String awayTeamKey = game.getBoxScoreAway().getTeam().getTeamKey();
+				String homeTeamKey = game.getBoxScoreHome().getTeam().getTeamKey();
+				boolean awayWon = game.getBoxScoreAway().getResult() == BoxScore.Result.Win;
+				addGame(headToHeads, seasonDate, gameDate, awayTeamKey, homeTeamKey, awayWon);
+				addGame(headToHeads, seasonDate, gameDate, homeTeamKey, awayTeamKey, !awayWon);
+			}
+		}
+		headToHeadJpaService.deleteBySeason(seasonDate);
+		List<HeadToHead> created = new ArrayList<>();
+		for (HeadToHead headToHead : headToHeads.values()) {
+			created.add(headToHeadJpaService.create(headToHead));
+		}
+		logger.info("Rebuilt " + created.size() + " head to head records for season " + DateTimeConverter.getStringDate(seasonDate));
+		return created;
+	}
+
+	/**
+	 * Returns opponent and opponent's opponent games won/played per team key, matching
+	 * StandingAppService.calculateStrengthOfSchedule, or null when the head to head records through asOfDate
+	 * do not agree with the standings' games won/played and the game by game calculation is needed.
+	 * Records are only read here, rebuildSeason repairs them as part of a season rebuild.
+	 */
+	public Map<String, StandingRecord> calculateStrengthOfSchedule(List<Standing> standings, LocalDate asOfDate) {
+		HeadToHeadMatrix headToHeadMatrix = buildMatrix(standings, headToHeadJpaService.findBySeasonThroughDate(asOfDate));
+		if (!headToHeadMatrix.matchesStandings()) {
+			logger.info("Head to head records do not match standings for " + DateTimeConverter.getStringDate(asOfDate) + " - rebuild the season to repair them");
+			return null;
+		}
+		return headToHeadMatrix.calculateStrengthOfSchedule();
+	}
+
+	private void addGame(Map<String, HeadToHead> headToHeads, LocalDate seasonDate, LocalDate gameDate, String teamKey, String opptTeamKey, boolean won) {
+		HeadToHead headToHead = headToHeads.computeIfAbsent(gameDate + "|" + teamKey + "|" + opptTeamKey, key -> {
+			HeadToHead created = new HeadToHead();
+			created.setSeasonDate(seasonDate);
+			created.setGameDate(gameDate);
+			created.setTeamKey(teamKey);
+			created.setOpptTeamKey(opptTeamKey);
+			created.setGamesPlayed((short) 0);
+			created.setGamesWon((short) 0);
+			return created;
+		});
+		headToHead.setGamesPlayed((short) (headToHead.getGamesPlayed() + 1));
+		if (won) {
+			headToHead.setGamesWon((short) (headToHead.getGamesWon() + 1));
+		}
+	}
+
+	private HeadToHeadMatrix buildMatrix(List<Standing> standings, List<HeadToHead> headToHeads) {
+		HeadToHeadMatrix headToHeadMatrix = new HeadToHeadMatrix(standings);
+		for (HeadToHead headToHead : headToHeads) {
+			headToHeadMatrix.addHeadToHead(headToHead.getTeamKey(), headToHead.getOpptTeamKey(), headToHead.getGamesWon(), headToHead.getGamesPlayed());
+		}
+		return headToHeadMatrix;
+	}
+}
@@ -2,10 +2,12 @@ package com.rossotti.basketball.app.service;
 
 import com.rossotti.basketball.client.dto.OfficialDTO;
 import com.rossotti.basketball.jpa.exception.NoSuchEntityException;
+import com.rossotti.basketball.jpa.model.AbstractDomainClass.StatusCodeDAO;
 import com.rossotti.basketball.jpa.model.Game;
 import com.rossotti.basketball.jpa.model.GameOfficial;
 import com.rossotti.basketball.jpa.model.Official;
 import com.rossotti.basketball.jpa.service.OfficialJpaService;
+import com.rossotti.basketball.util.DateTimeConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,12 +15,20 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 @Service
 public class OfficialAppService {
 	private final OfficialJpaService officialJpaService;
 
+	// officials by season start date, loaded on first use and cleared when an official is found outside it
+	private final ConcurrentMap<LocalDate, Map<String, List<Official>>> seasonDirectory = new ConcurrentHashMap<>();
+
 	private final Logger logger = LoggerFactory.getLogger(OfficialAppService.class);
 
 	@Autowired
@@ -31,7 +41,7 @@ public class OfficialAppService {
 		for (OfficialDTO official1 : officials) {
 			String lastName = official1.getLast_name();
 			String firstName = official1.getFirst_name();
-			Official official = officialJpaService.findByLastNameAndFirstNameAndAsOfDate(lastName, firstName, gameDate);
+			Official official = findByOfficialNameAsOfDate(lastName, firstName, gameDate);
 			if (official.isNotFound()) {
 				logger.info("Official not found " + firstName + " " + lastName);
 				throw new NoSuchEntityException(Official.class);
@@ -44,4 +54,42 @@ public class OfficialAppService {
 		}
 		return gameOfficials;
 	}
-}
\ No newline at end of file
+
+	public Official findByOfficialNameAsOfDate(String lastName, String firstName, LocalDate asOfDate) {
+		List<Official> officials = getSeasonDirectory(asOfDate).get(getNameKey(lastName, firstName));
+		if (officials != null) {
+			for (Official official : officials) {
+				if (!official.getFromDate().isAfter(asOfDate) && !official.getToDate().isBefore(asOfDate)) {
+					return official;
+				}
+			}
+		}
+		Official official = officialJpaService.findByLastNameAndFirstNameAndAsOfDate(lastName, firstName, asOfDate);
+		if (official.isFound()) {
+			logger.info("Official " + firstName + " " + lastName + " not in directory: reload season of " + asOfDate);
+			invalidate();
+		}
+		return official;
+	}
+
+	private void invalidate() {
+		seasonDirectory.clear();
+	}
+
+	private Map<String, List<Official>> getSeasonDirectory(LocalDate asOfDate) {
+		return seasonDirectory.computeIfAbsent(DateTimeConverter.getLocalDateSeasonMin(asOfDate), fromDate -> {
+			Map<String, List<Official>> directory = new HashMap<>();
+			List<Official> officials = officialJpaService.findByDateRange(fromDate, DateTimeConverter.getLocalDateSeasonMax(fromDate));
+			for (Official official : officials) {
+				official.setStatusCode(StatusCodeDAO.Found);
+				directory.computeIfAbsent(getNameKey(official.getLastName(), official.getFirstName()), key -> new ArrayList<>()).add(official);
+			}
+			logger.info("Official directory loaded for season " + fromDate + ": " + officials.size() + " officials");
+			return directory;
+		});
+	}
+
+	private String getNameKey(String lastName, String firstName) {
+		return (lastName + "|" + firstName).toLowerCase(Locale.ENGLISH);
+	}
+}
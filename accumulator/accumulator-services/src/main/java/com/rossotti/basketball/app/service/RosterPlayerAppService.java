@@ -14,7 +14,10 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 @Service
 public class RosterPlayerAppService {
@@ -32,11 +35,15 @@ public class RosterPlayerAppService {
 
 	public List<BoxScorePlayer> getBoxScorePlayers(BoxScorePlayerDTO[] boxScorePlayerDTOs, BoxScore boxScore, LocalDate asOfDate, String teamKey) {
 		List<BoxScorePlayer> boxScorePlayers = new ArrayList<>();
+		Map<String, RosterPlayer> rosterPlayers = new HashMap<>();
+		for (RosterPlayer rosterPlayer : rosterPlayerJpaService.findByTeamKeyAndAsOfDate(teamKey, asOfDate)) {
+			rosterPlayers.putIfAbsent(getNameKey(rosterPlayer.getPlayer().getLastName(), rosterPlayer.getPlayer().getFirstName()), rosterPlayer);
+		}
 		for (BoxScorePlayerDTO boxScorePlayerDTO : boxScorePlayerDTOs) {
 			String lastName = boxScorePlayerDTO.getLast_name();
 			String firstName = boxScorePlayerDTO.getFirst_name();
-			RosterPlayer rosterPlayer = rosterPlayerJpaService.findByLastNameAndFirstNameAndTeamKeyAndAsOfDate(lastName, firstName, teamKey, asOfDate);
-			if (rosterPlayer.isNotFound()) {
+			RosterPlayer rosterPlayer = rosterPlayers.get(getNameKey(lastName, firstName));
+			if (rosterPlayer == null) {
 				logger.info("Roster Player not found " + firstName + " " + lastName + " Team: " + teamKey + " AsOfDate: " + asOfDate);
 				throw new NoSuchEntityException(RosterPlayer.class);
 			} else {
@@ -71,6 +78,11 @@ public class RosterPlayerAppService {
 		return boxScorePlayers;
 	}
 
+	// names compare case insensitive, as with the database collation used by the single player finder
+	private String getNameKey(String lastName, String firstName) {
+		return (lastName + "|" + firstName).toLowerCase(Locale.ENGLISH);
+	}
+
 	public List<RosterPlayer> getRosterPlayers(RosterPlayerDTO[] rosterPlayerDTOs, LocalDate asOfDate, String teamKey) {
 		List<RosterPlayer> rosterPlayers = new ArrayList<>();
 		Team team = teamJpaService.findByTeamKeyAndAsOfDate(teamKey, asOfDate);
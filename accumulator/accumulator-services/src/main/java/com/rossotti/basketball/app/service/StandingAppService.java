@@ -1,5 +1,7 @@
 package com.rossotti.basketball.app.service;
 
+import com.rossotti.basketball.app.model.HeadToHeadMatrix;
+import com.rossotti.basketball.app.model.SeasonStandings;
 import com.rossotti.basketball.app.model.StandingRecord;
 import com.rossotti.basketball.client.dto.StandingDTO;
 import com.rossotti.basketball.client.dto.StandingsDTO;
@@ -17,13 +19,13 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 public class StandingAppService {
@@ -86,6 +88,54 @@ public class StandingAppService {
 		return standings;
 	}
 
+	public List<Standing> calculateStandings(LocalDate asOfDate) {
+		List<Game> games = gameJpaService.findByDateRange(DateTimeConverter.getLocalDateSeasonMin(asOfDate), asOfDate).stream()
+			.filter(Game::isCompleted)
+			.sorted(Comparator.comparing(Game::getGameDateTime))
+			.collect(Collectors.toList());
+		SeasonStandings seasonStandings = new SeasonStandings(teamJpaService.findByDate(asOfDate));
+		int gamesAdded = 0;
+		for (Game game : games) {
+			if (seasonStandings.addGame(game)) {
+				gamesAdded++;
+			}
+		}
+		if (gamesAdded < games.size()) {
+			logger.info((games.size() - gamesAdded) + " games with teams not active on " + DateTimeConverter.getStringDate(asOfDate));
+		}
+		logger.debug("Standings calculated from " + gamesAdded + " games");
+		return seasonStandings.getStandings(asOfDate);
+	}
+
+	public int compareStandings(List<Standing> standings, StandingsDTO standingsDTO) {
+		Map<String, Standing> standingsMap = new HashMap<>();
+		for (Standing standing : standings) {
+			standingsMap.put(standing.getTeam().getTeamKey(), standing);
+		}
+		int mismatches = 0;
+		for (StandingDTO standingDTO : standingsDTO.standing) {
+			Standing standing = standingsMap.get(standingDTO.getTeam_id());
+			if (standing == null) {
+				logger.info("Standing cross check " + standingDTO.getTeam_id() + " not calculated");
+				mismatches++;
+				continue;
+			}
+			String calculated = standing.getGamesWon() + "-" + standing.getGamesLost() + " home " + standing.getHomeWins() + "-" + standing.getHomeLosses() +
+				" away " + standing.getAwayWins() + "-" + standing.getAwayLosses() + " conference " + standing.getConferenceWins() + "-" + standing.getConferenceLosses() +
+				" streak " + standing.getStreak() + " last " + standing.getLastFive() + " " + standing.getLastTen() +
+				" points " + standing.getPointsFor() + "-" + standing.getPointsAgainst();
+			String retrieved = standingDTO.getWon() + "-" + standingDTO.getLost() + " home " + standingDTO.getHome_won() + "-" + standingDTO.getHome_lost() +
+				" away " + standingDTO.getAway_won() + "-" + standingDTO.getAway_lost() + " conference " + standingDTO.getConference_won() + "-" + standingDTO.getConference_lost() +
+				" streak " + standingDTO.getStreak() + " last " + standingDTO.getLast_five() + " " + standingDTO.getLast_ten() +
+				" points " + standingDTO.getPoints_for() + "-" + standingDTO.getPoints_against();
+			if (!calculated.equals(retrieved)) {
+				logger.info("Standing cross check " + standingDTO.getTeam_id() + " calculated " + calculated + " retrieved " + retrieved);
+				mismatches++;
+			}
+		}
+		return mismatches;
+	}
+
 	public Standing findStanding(String teamKey, LocalDate asOfDate) {
 		return standingJpaService.findByTeamKeyAndAsOfDate(teamKey, asOfDate);
 	}
@@ -94,120 +144,36 @@ public class StandingAppService {
 		return standingJpaService.findByAsOfDate(asOfDate);
 	}
 
-	public Standing createStanding(Standing standing) {
-		return standingJpaService.create(standing);
+	public List<LocalDate> findStandingDates(LocalDate fromDate, LocalDate toDate) {
+		return standingJpaService.findStandingDates(fromDate, toDate);
 	}
 
 	public Standing updateStanding(Standing standing) {
 		return standingJpaService.update(standing);
 	}
 
-	public List<Standing> deleteStandings(LocalDate asOfDate) {
-		List<Standing> standings = standingJpaService.findByAsOfDate(asOfDate);
-		if (!standings.isEmpty() && standings.size() > 0) {
-			logger.info("Deleting standings for " + DateTimeConverter.getStringDate(asOfDate));
-			for (int i = 0; i < standings.size(); i++) {
-				standings.set(i, standingJpaService.delete(standings.get(i).getId()));
-			}
-		}
-		return standings;
+	public List<Standing> createStandings(List<Standing> standings) {
+		return standingJpaService.createAll(standings);
 	}
 
-	public Map<String, StandingRecord> buildStandingsMap(List<Standing> standings, LocalDate asOfDate) {
-		Map<String, StandingRecord> standingsMap = new HashMap<>();
-		//create map with team games won/played
-		for (Standing standing1 : standings) {
-			StandingRecord standingRecord = new StandingRecord((int) standing1.getGamesWon(), (int) standing1.getGamesPlayed(), 0, 0);
-			standingsMap.put(standing1.getTeam().getTeamKey(), standingRecord);
-		}
-
-		//update map summing opponent games won/played
-		for (Standing standing : standings) {
-			String teamKey = standing.getTeam().getTeamKey();
-			Integer opptGamesWon = 0;
-			Integer opptGamesPlayed = 0;
-			List<Game> completeGames = gameJpaService.findByTeamKeyAndAsOfDateSeason(teamKey, asOfDate);
-			for (Game completedGame : completeGames) {
-				int opptBoxScoreId = completedGame.getBoxScores().get(0).getTeam().getTeamKey().equals(teamKey) ? 1 : 0;
-				String opptTeamKey = completedGame.getBoxScores().get(opptBoxScoreId).getTeam().getTeamKey();
-				opptGamesWon = opptGamesWon + standingsMap.get(opptTeamKey).getGamesWon();
-				opptGamesPlayed = opptGamesPlayed + standingsMap.get(opptTeamKey).getGamesPlayed();
-
-				String completedGameDate = DateTimeConverter.getStringDate(completedGame.getGameDateTime());
-				logger.debug('\n' + ("  StandingsMap " + teamKey + " " + completedGameDate + " " + opptTeamKey +
-						" Games Won/Played: " + standingsMap.get(opptTeamKey).getGamesWon() + " - " + standingsMap.get(opptTeamKey).getGamesPlayed()));
-			}
-			standingsMap.get(teamKey).setOpptGamesWon(opptGamesWon);
-			standingsMap.get(teamKey).setOpptGamesPlayed(opptGamesPlayed);
-		}
-		return standingsMap;
+	public int deleteStandings(LocalDate fromDate, LocalDate toDate) {
+		int deleted = standingJpaService.deleteByDateRange(fromDate, toDate);
+		logger.info("Deleted " + deleted + " standings from " + DateTimeConverter.getStringDate(fromDate) + " to " + DateTimeConverter.getStringDate(toDate));
+		return deleted;
 	}
 
-	public Map<String, StandingRecord> buildHeadToHeadMap(String teamKey, LocalDate asOfDate, Map<String, StandingRecord> standingsMap) {
-		Map<String, StandingRecord> headToHeadMap = new HashMap<>();
-		List<Game> completeGames = gameJpaService.findByTeamKeyAndAsOfDateSeason(teamKey, asOfDate);
-
-		for (Game completeGame : completeGames) {
-			int opptBoxScoreId = completeGame.getBoxScores().get(0).getTeam().getTeamKey().equals(teamKey) ? 1 : 0;
-			BoxScore opptBoxScore = completeGame.getBoxScores().get(opptBoxScoreId);
-			String opptTeamKey = opptBoxScore.getTeam().getTeamKey();
-			Integer opptHeadToHeadResult = opptBoxScore.getResult() != null && opptBoxScore.getResult().equals(BoxScore.Result.Win) ? 1 : 0;
-			if (headToHeadMap.get(opptTeamKey) == null) {
-				headToHeadMap.put(opptTeamKey, new StandingRecord(opptHeadToHeadResult, 1, standingsMap.get(teamKey).getGamesWon(), standingsMap.get(teamKey).getGamesPlayed()));
-			}
-			else {
-				headToHeadMap.get(opptTeamKey).setGamesWon(headToHeadMap.get(opptTeamKey).getGamesWon() + opptHeadToHeadResult);
-				headToHeadMap.get(opptTeamKey).setGamesPlayed(headToHeadMap.get(opptTeamKey).getGamesPlayed() + 1);
-				headToHeadMap.get(opptTeamKey).setOpptGamesWon(headToHeadMap.get(opptTeamKey).getOpptGamesWon() + standingsMap.get(teamKey).getGamesWon());
-				headToHeadMap.get(opptTeamKey).setOpptGamesPlayed(headToHeadMap.get(opptTeamKey).getOpptGamesPlayed() + standingsMap.get(teamKey).getGamesPlayed());
+	public Map<String, StandingRecord> calculateStrengthOfSchedule(List<Standing> standings, LocalDate asOfDate) {
+		HeadToHeadMatrix headToHeadMatrix = new HeadToHeadMatrix(standings);
+		List<Game> games = gameJpaService.findByDateRange(DateTimeConverter.getLocalDateSeasonMin(asOfDate), asOfDate);
+		for (Game game : games) {
+			if ((game.isCompleted() || game.isScheduled()) && game.getBoxScores().size() == 2) {
+				BoxScore boxScore = game.getBoxScores().get(0);
+				BoxScore opptBoxScore = game.getBoxScores().get(1);
+				headToHeadMatrix.addGame(boxScore.getTeam().getTeamKey(), opptBoxScore.getTeam().getTeamKey(),
+					BoxScore.Result.Win.equals(boxScore.getResult()), BoxScore.Result.Win.equals(opptBoxScore.getResult()));
 			}
 		}
-		return headToHeadMap;
-	}
-
-	public StandingRecord calculateStrengthOfSchedule(String teamKey, LocalDate asOfDate, Map<String, StandingRecord> standingsMap, Map<String, StandingRecord> headToHeadMap) {
-		BoxScore opptBoxScore;
-		Integer opptGamesWon = 0;
-		Integer opptGamesPlayed = 0;
-		Integer opptOpptGamesWon = 0;
-		Integer opptOpptGamesPlayed = 0;
-		List<Game> completeGames = gameJpaService.findByTeamKeyAndAsOfDateSeason(teamKey, asOfDate);
-
-		for (Game completeGame : completeGames) {
-			int opptBoxScoreId = completeGame.getBoxScores().get(0).getTeam().getTeamKey().equals(teamKey) ? 1 : 0;
-			opptBoxScore = completeGame.getBoxScores().get(opptBoxScoreId);
-			String opptTeamKey = opptBoxScore.getTeam().getTeamKey();
-
-			opptGamesWon = opptGamesWon + standingsMap.get(opptTeamKey).getGamesWon() - headToHeadMap.get(opptTeamKey).getGamesWon();
-			opptGamesPlayed = opptGamesPlayed + standingsMap.get(opptTeamKey).getGamesPlayed() - headToHeadMap.get(opptTeamKey).getGamesPlayed();
-			opptOpptGamesWon = opptOpptGamesWon + standingsMap.get(opptTeamKey).getOpptGamesWon() - headToHeadMap.get(opptTeamKey).getOpptGamesWon();
-			opptOpptGamesPlayed = opptOpptGamesPlayed + standingsMap.get(opptTeamKey).getOpptGamesPlayed() - headToHeadMap.get(opptTeamKey).getOpptGamesPlayed();
-
-			logger.debug('\n' + "SubTeamStanding " + opptTeamKey);
-			logger.debug('\n' + "  Opponent Games Won/Played: " + opptGamesWon + " - " + opptGamesPlayed + " = " +
-				standingsMap.get(opptTeamKey).getGamesWon() + " - " + standingsMap.get(opptTeamKey).getGamesPlayed() + " minus " +
-				headToHeadMap.get(opptTeamKey).getGamesWon() + " - " + headToHeadMap.get(opptTeamKey).getGamesPlayed());
-			logger.debug('\n' + "  OpptOppt Games Won/Played: " + opptOpptGamesWon + " - " + opptOpptGamesPlayed + " = " +
-				standingsMap.get(opptTeamKey).getOpptGamesWon() + " - " + standingsMap.get(opptTeamKey).getOpptGamesPlayed() + " minus " +
-				headToHeadMap.get(opptTeamKey).getOpptGamesWon() + " - " + headToHeadMap.get(opptTeamKey).getOpptGamesPlayed());
-
-			if (opptGamesWon > opptGamesPlayed) {
-				//head to head wins exceed opponent wins, should only occur until wins start to occur
-				//1. observed occurrence when loading standings before entire day's games were loaded
-				//2. observed occurrence when to first game played on losing team
-				logger.info('\n' + "Crazy opptGamesWon more than opptGamesPlayed!");
-				opptGamesWon = opptGamesPlayed;
-			}
-		}
-
-		BigDecimal opptRecord = opptGamesPlayed == 0 ? new BigDecimal(0) : new BigDecimal(opptGamesWon).divide(new BigDecimal(opptGamesPlayed), 4, RoundingMode.HALF_UP);
-		BigDecimal opptOpptRecord = opptOpptGamesWon == 0 ? new BigDecimal(0) : new BigDecimal(opptOpptGamesWon).divide(new BigDecimal(opptOpptGamesPlayed), 4, RoundingMode.HALF_UP);
-		logger.debug('\n' + "  Opponent Games Won/Played = " + opptGamesWon + "-" + opptGamesPlayed);
-		logger.debug('\n' + "  OpptOppt Games Won/Played = " + opptOpptGamesWon + "-" + opptOpptGamesPlayed);
-		logger.debug('\n' + "  Opponent Record = " + opptRecord);
-		logger.debug('\n' + "  OpptOppt Record = " + opptOpptRecord);
-		logger.debug('\n' + "  Strength Of Schedule " + teamKey + " " + opptRecord.multiply(new BigDecimal(2)).add(opptOpptRecord).divide(new BigDecimal(3), 4, RoundingMode.HALF_UP));
-
-		return new StandingRecord(opptGamesWon, opptGamesPlayed, opptOpptGamesWon, opptOpptGamesPlayed);
+		logger.debug("Strength of schedule from " + games.size() + " games for " + standings.size() + " teams");
+		return headToHeadMatrix.calculateStrengthOfSchedule();
 	}
-}
\ No newline at end of file
+}
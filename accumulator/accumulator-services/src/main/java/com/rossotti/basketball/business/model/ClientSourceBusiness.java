@@ -3,7 +3,8 @@ package com.rossotti.basketball.business.model;
 public class ClientSourceBusiness {
     public enum ClientSource {
             File,
-            Api
+            Api,
+            Local
     }
     private ClientSource clientSource;
     public void setClientSource(ClientSource clientSource) {
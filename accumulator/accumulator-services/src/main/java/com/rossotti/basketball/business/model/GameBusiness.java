@@ -1,7 +1,11 @@
 package com.rossotti.basketball.business.model;
 
+import com.rossotti.basketball.client.dto.GameDTO;
 import com.rossotti.basketball.jpa.model.Game;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class GameBusiness extends StatusCodeBusiness {
 	public GameBusiness(Game game) {
 		this.game = game;
@@ -27,4 +31,20 @@ public class GameBusiness extends StatusCodeBusiness {
 	public void setRosterLastTeam(String rosterLastTeam) {
 		this.rosterLastTeam = rosterLastTeam;
 	}
+
+	private GameDTO gameDTO;
+	public GameDTO getGameDTO() {
+		return gameDTO;
+	}
+	public void setGameDTO(GameDTO gameDTO) {
+		this.gameDTO = gameDTO;
+	}
+
+	private List<String> rosterUpdateTeams = new ArrayList<>();
+	public List<String> getRosterUpdateTeams() {
+		return rosterUpdateTeams;
+	}
+	public void setRosterUpdateTeams(List<String> rosterUpdateTeams) {
+		this.rosterUpdateTeams = rosterUpdateTeams;
+	}
 }
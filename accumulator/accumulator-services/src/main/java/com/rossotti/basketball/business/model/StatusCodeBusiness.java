@@ -1,6 +1,8 @@
 package com.rossotti.basketball.business.model;
 
-public class StatusCodeBusiness {
+import java.io.Serializable;
+
+public class StatusCodeBusiness implements Serializable {
 	public enum StatusCode {
 		Initial,
 		Completed,
@@ -0,0 +1,91 @@
+package com.rossotti.basketball.business.service;
+
+import com.rossotti.basketball.client.dto.GameDTO;
+import com.rossotti.basketball.jpa.model.Game;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class BoxScoreBusService {
+	private final GameBusService gameBusService;
+
+	private final TaskExecutor prefetchTaskExecutor;
+
+	private final Map<String, CompletableFuture<GameDTO>> prefetched = new ConcurrentHashMap<>();
+
+	//events prefetched for each split, evicted when the split's aggregator group is released
+	private final Map<String, List<String>> splitEvents = new ConcurrentHashMap<>();
+
+	private final Logger logger = LoggerFactory.getLogger(BoxScoreBusService.class);
+
+	@Autowired
+	public BoxScoreBusService(GameBusService gameBusService, @Qualifier("prefetchTaskExecutor") TaskExecutor prefetchTaskExecutor) {
+		this.gameBusService = gameBusService;
+		this.prefetchTaskExecutor = prefetchTaskExecutor;
+	}
+
+	public void prefetch(List<Game> games) {
+		prefetchEvents(games);
+	}
+
+	public void prefetch(String correlationId, List<Game> games) {
+		splitEvents.put(correlationId, prefetchEvents(games));
+	}
+
+	public GameDTO take(Game game) {
+		CompletableFuture<GameDTO> future = prefetched.remove(gameBusService.getEvent(game));
+		if (future == null) {
+			return null;
+		}
+		try {
+			return future.join();
+		}
+		catch (Exception e) {
+			logger.info("Prefetch exception = " + e);
+			return null;
+		}
+	}
+
+	//drops box scores of a split that were never taken, games still to be scored fetch inline
+	public void evict(String correlationId) {
+		List<String> events = splitEvents.remove(correlationId);
+		if (events == null) {
+			return;
+		}
+		for (String event : events) {
+			CompletableFuture<GameDTO> future = prefetched.remove(event);
+			if (future != null) {
+				future.cancel(false);
+				logger.debug("Evict prefetched box score: " + event);
+			}
+		}
+	}
+
+	public void clear() {
+		prefetched.clear();
+		splitEvents.clear();
+	}
+
+	private List<String> prefetchEvents(List<Game> games) {
+		List<String> events = new ArrayList<>();
+		for (Game game : games) {
+			if (game.isScheduled()) {
+				String event = gameBusService.getEvent(game);
+				prefetched.computeIfAbsent(event, key -> CompletableFuture.supplyAsync(() -> gameBusService.retrieveBoxScore(key), prefetchTaskExecutor));
+				events.add(event);
+				logger.debug("Prefetch box score: " + event);
+			}
+		}
+		return events;
+	}
+}
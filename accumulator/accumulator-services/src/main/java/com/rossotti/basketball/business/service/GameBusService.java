@@ -1,12 +1,14 @@
 package com.rossotti.basketball.business.service;
 
 import com.rossotti.basketball.app.service.GameAppService;
+import com.rossotti.basketball.app.service.HeadToHeadAppService;
 import com.rossotti.basketball.app.service.OfficialAppService;
 import com.rossotti.basketball.app.service.RosterPlayerAppService;
 import com.rossotti.basketball.app.service.TeamAppService;
 import com.rossotti.basketball.business.model.ClientSourceBusiness.ClientSource;
 import com.rossotti.basketball.business.model.GameBusiness;
 import com.rossotti.basketball.business.model.StatusCodeBusiness.StatusCode;
+import com.rossotti.basketball.client.dto.BoxScorePlayerDTO;
 import com.rossotti.basketball.client.dto.GameDTO;
 import com.rossotti.basketball.client.service.FileStatsService;
 import com.rossotti.basketball.client.service.RestStatsService;
@@ -15,14 +17,19 @@ import com.rossotti.basketball.jpa.model.*;
 import com.rossotti.basketball.jpa.model.BoxScore.Result;
 import com.rossotti.basketball.jpa.model.Game.GameStatus;
 import com.rossotti.basketball.util.DateTimeConverter;
-import com.rossotti.basketball.util.ThreadSleep;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 public class GameBusService {
@@ -40,10 +47,16 @@ public class GameBusService {
 
 	private final GameAppService gameAppService;
 
+	private final HeadToHeadAppService headToHeadAppService;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final ScoringLock scoringLock;
+
 	private final Logger logger = LoggerFactory.getLogger(GameBusService.class);
 
 	@Autowired
-	public GameBusService(Environment env, FileStatsService fileStatsService, OfficialAppService officialAppService, RestStatsService restStatsService, TeamAppService teamAppService, RosterPlayerAppService rosterPlayerAppService, GameAppService gameAppService) {
+	public GameBusService(Environment env, FileStatsService fileStatsService, OfficialAppService officialAppService, RestStatsService restStatsService, TeamAppService teamAppService, RosterPlayerAppService rosterPlayerAppService, GameAppService gameAppService, HeadToHeadAppService headToHeadAppService, PlatformTransactionManager transactionManager, ScoringLock scoringLock) {
 		this.env = env;
 		this.fileStatsService = fileStatsService;
 		this.officialAppService = officialAppService;
@@ -51,9 +64,33 @@ public class GameBusService {
 		this.teamAppService = teamAppService;
 		this.rosterPlayerAppService = rosterPlayerAppService;
 		this.gameAppService = gameAppService;
+		this.headToHeadAppService = headToHeadAppService;
+		this.transactionTemplate = new TransactionTemplate(transactionManager, new DefaultTransactionDefinition(TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+		this.scoringLock = scoringLock;
 	}
 
-	private GameBusiness scoreGame(Game game, String previousUpdateTeam) {
+	public GameDTO retrieveBoxScore(String event) {
+		GameDTO gameDTO;
+		ClientSource clientSource = ClientSource.valueOf(env.getProperty("accumulator.source.boxScore"));
+		if (clientSource == ClientSource.File) {
+			gameDTO = fileStatsService.retrieveBoxScore(event);
+		}
+		else if (clientSource == ClientSource.Api) {
+			gameDTO = restStatsService.retrieveBoxScore(event, false);
+		}
+		else {
+			throw new IllegalStateException("property exception");
+		}
+		return gameDTO;
+	}
+
+	public String getEvent(Game game) {
+		return DateTimeConverter.getStringDateNaked(game.getGameDateTime()) + "-" +
+			game.getBoxScoreAway().getTeam().getTeamKey() + "-at-" +
+			game.getBoxScoreHome().getTeam().getTeamKey();
+	}
+
+	private GameBusiness scoreGame(Game game, GameDTO prefetchedGameDTO, List<String> previousUpdateTeams) {
 		GameBusiness gameBusiness = new GameBusiness(game);
 		try {
 			BoxScore awayBoxScore = game.getBoxScoreAway();
@@ -69,16 +106,12 @@ public class GameBusService {
 				logger.debug("Scheduled game ready to be scored: " + event);
 
 				GameDTO gameDTO;
-				ClientSource clientSource = ClientSource.valueOf(env.getProperty("accumulator.source.boxScore"));
-				if (clientSource == ClientSource.File) {
-					gameDTO = fileStatsService.retrieveBoxScore(event);
-				}
-				else if (clientSource == ClientSource.Api) {
-					ThreadSleep.sleep(Integer.valueOf(env.getProperty("sleep.duration")));
-					gameDTO = restStatsService.retrieveBoxScore(event, false);
+				if (prefetchedGameDTO != null && prefetchedGameDTO.isFound()) {
+					logger.debug("Using prefetched box score: " + event);
+					gameDTO = prefetchedGameDTO;
 				}
 				else {
-                    throw new IllegalStateException("property exception");
+					gameDTO = retrieveBoxScore(event);
 				}
 
 				if (gameDTO == null || gameDTO.isNotFound()) {
@@ -86,32 +119,48 @@ public class GameBusService {
 					gameBusiness.setStatusCode(StatusCode.ClientError);
 				}
 				else if (gameDTO.isFound()) {
-					awayBoxScore.updateTotals(gameDTO.away_totals);
-					homeBoxScore.updateTotals(gameDTO.home_totals);
-					awayBoxScore.updatePeriodScores(gameDTO.away_period_scores);
-					homeBoxScore.updatePeriodScores(gameDTO.home_period_scores);
-					gameBusiness.setRosterLastTeam(awayTeamKey);
-					awayBoxScore.setBoxScorePlayers(rosterPlayerAppService.getBoxScorePlayers(gameDTO.away_stats, awayBoxScore, gameDate, awayTeamKey));
-					gameBusiness.setRosterLastTeam(homeTeamKey);
-					homeBoxScore.setBoxScorePlayers(rosterPlayerAppService.getBoxScorePlayers(gameDTO.home_stats, homeBoxScore, gameDate, homeTeamKey));
-					game.setGameOfficials(officialAppService.getGameOfficials(gameDTO.officials, game, gameDate));
-					awayBoxScore.setTeam(teamAppService.findTeamByTeamKey(awayTeamKey, gameDate));
-					homeBoxScore.setTeam(teamAppService.findTeamByTeamKey(homeTeamKey, gameDate));
-
-					if (gameDTO.away_totals.getPoints() > gameDTO.home_totals.getPoints()) {
-						awayBoxScore.setResult(Result.Win);
-						homeBoxScore.setResult(Result.Loss);
-					}
-					else {
-						awayBoxScore.setResult(Result.Loss);
-						homeBoxScore.setResult(Result.Win);
-					}
-
-					awayBoxScore.setDaysOff((short) DateTimeConverter.getDaysBetweenTwoDateTimes(gameAppService.findPreviousByTeamKeyAsOfDate(awayTeamKey, gameDate), gameDateTime));
-					homeBoxScore.setDaysOff((short) DateTimeConverter.getDaysBetweenTwoDateTimes(gameAppService.findPreviousByTeamKeyAsOfDate(homeTeamKey, gameDate), gameDateTime));
-					game.setStatus(GameStatus.Completed);
-					Game updatedGame = gameAppService.updateGame(game);
+					gameBusiness.setGameDTO(gameDTO);
+					//head to head records are incremented here, ranking waits until the unit commits
+					Game updatedGame = scoringLock.scoring(() -> transactionTemplate.execute(status -> {
+						//scored onto the game managed by this unit of work, written when it commits
+						Game scoredGame = gameAppService.findById(game.getId());
+						BoxScore scoredAwayBoxScore = scoredGame.getBoxScoreAway();
+						BoxScore scoredHomeBoxScore = scoredGame.getBoxScoreHome();
+						scoredAwayBoxScore.updateTotals(gameDTO.away_totals);
+						scoredHomeBoxScore.updateTotals(gameDTO.home_totals);
+						scoredAwayBoxScore.updatePeriodScores(gameDTO.away_period_scores);
+						scoredHomeBoxScore.updatePeriodScores(gameDTO.home_period_scores);
+						List<BoxScorePlayer> awayBoxScorePlayers = getBoxScorePlayers(gameBusiness, gameDTO.away_stats, scoredAwayBoxScore, gameDate, awayTeamKey);
+						List<BoxScorePlayer> homeBoxScorePlayers = getBoxScorePlayers(gameBusiness, gameDTO.home_stats, scoredHomeBoxScore, gameDate, homeTeamKey);
+						if (gameBusiness.getRosterUpdateTeams().size() > 0) {
+							throw new NoSuchEntityException(RosterPlayer.class);
+						}
+						scoredAwayBoxScore.setBoxScorePlayers(awayBoxScorePlayers);
+						scoredHomeBoxScore.setBoxScorePlayers(homeBoxScorePlayers);
+						scoredGame.setGameOfficials(officialAppService.getGameOfficials(gameDTO.officials, scoredGame, gameDate));
+						scoredAwayBoxScore.setTeam(teamAppService.findTeamByTeamKey(awayTeamKey, gameDate));
+						scoredHomeBoxScore.setTeam(teamAppService.findTeamByTeamKey(homeTeamKey, gameDate));
+
+						if (gameDTO.away_totals.getPoints() > gameDTO.home_totals.getPoints()) {
+							scoredAwayBoxScore.setResult(Result.Win);
+							scoredHomeBoxScore.setResult(Result.Loss);
+						}
+						else {
+							scoredAwayBoxScore.setResult(Result.Loss);
+							scoredHomeBoxScore.setResult(Result.Win);
+						}
+
+						scoredAwayBoxScore.setDaysOff((short) DateTimeConverter.getDaysBetweenTwoDateTimes(gameAppService.findPreviousByTeamKeyAsOfDate(awayTeamKey, gameDate), gameDateTime));
+						scoredHomeBoxScore.setDaysOff((short) DateTimeConverter.getDaysBetweenTwoDateTimes(gameAppService.findPreviousByTeamKeyAsOfDate(homeTeamKey, gameDate), gameDateTime));
+						scoredGame.setStatus(GameStatus.Completed);
+						Game completedGame = gameAppService.completeGame(scoredGame);
+						if (completedGame.isUpdated()) {
+							headToHeadAppService.recordGame(scoredGame);
+						}
+						return completedGame;
+					}));
 					if (updatedGame.isUpdated()) {
+						gameBusiness.setGame(updatedGame);
 						logger.info(gameBusiness.getGame().getBoxScoreAway().getTeam().getAbbr() + " " +
 								gameBusiness.getGame().getBoxScoreAway().getBoxScoreStats().getPoints() + " " +
 								gameBusiness.getGame().getBoxScoreHome().getTeam().getAbbr() + " " +
@@ -142,13 +191,13 @@ public class GameBusService {
 				gameBusiness.setStatusCode(StatusCode.TeamError);
 			}
 			else if (nse.getEntityClass().equals(RosterPlayer.class)) {
-				if (previousUpdateTeam == null || !previousUpdateTeam.equals(gameBusiness.getRosterLastTeam())) {
-					logger.info("RosterPlayer not found - need to rebuild active roster");
+				if (previousUpdateTeams == null || !previousUpdateTeams.containsAll(gameBusiness.getRosterUpdateTeams())) {
+					logger.info("RosterPlayer not found - need to rebuild active roster for " + gameBusiness.getRosterUpdateTeams());
 					gameBusiness.setStatusCode(StatusCode.RosterUpdate);
 				}
 				else {
 					logger.info("Roster Player not found - problem between box score and roster");
-					gameBusiness.setStatusCode(StatusCode.RosterUpdate);
+					gameBusiness.setStatusCode(StatusCode.ClientError);
 				}
 			}
 		}
@@ -167,15 +216,29 @@ public class GameBusService {
 		return gameBusiness;
 	}
 
+	private List<BoxScorePlayer> getBoxScorePlayers(GameBusiness gameBusiness, BoxScorePlayerDTO[] boxScorePlayerDTOs, BoxScore boxScore, LocalDate gameDate, String teamKey) {
+		try {
+			return rosterPlayerAppService.getBoxScorePlayers(boxScorePlayerDTOs, boxScore, gameDate, teamKey);
+		}
+		catch (NoSuchEntityException nse) {
+			if (!nse.getEntityClass().equals(RosterPlayer.class)) {
+				throw nse;
+			}
+			gameBusiness.getRosterUpdateTeams().add(teamKey);
+			gameBusiness.setRosterLastTeam(teamKey);
+			return null;
+		}
+	}
+
 	public GameBusiness scoreGame(GameBusiness gameBusiness) {
 		if (gameBusiness.isServerError()) {
 			return gameBusiness;
 		}
-		else if(gameBusiness.isRosterUpdate()) {
-			return scoreGame(gameBusiness.getGame(), gameBusiness.getRosterLastTeam());
+		else if(gameBusiness.isRosterUpdate() || gameBusiness.isRosterComplete()) {
+			return scoreGame(gameBusiness.getGame(), gameBusiness.getGameDTO(), gameBusiness.getRosterUpdateTeams());
 		}
 		else {
-			return scoreGame(gameBusiness.getGame(), null);
+			return scoreGame(gameBusiness.getGame(), gameBusiness.getGameDTO(), null);
 		}
 	}
 }
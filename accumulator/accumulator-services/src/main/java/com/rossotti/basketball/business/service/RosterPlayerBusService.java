@@ -15,14 +15,21 @@ import com.rossotti.basketball.jpa.model.RosterPlayer;
 import com.rossotti.basketball.jpa.model.Team;
 import com.rossotti.basketball.util.DateTimeConverter;
 import com.rossotti.basketball.util.FormatString;
-import com.rossotti.basketball.util.ThreadSleep;
+import com.rossotti.basketball.util.SingleFlight;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
 import java.time.LocalDate;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class RosterPlayerBusService {
@@ -36,18 +43,29 @@ public class RosterPlayerBusService {
 
 	private final PlayerAppService playerAppService;
 
+	private final SingleFlight<String, RosterPlayerBusiness> rosterLoads;
+
+	private final TransactionTemplate transactionTemplate;
+
 	private final Logger logger = LoggerFactory.getLogger(RosterPlayerBusService.class);
 
 	@Autowired
-	public RosterPlayerBusService(Environment env, FileStatsService fileStatsService, RosterPlayerAppService rosterPlayerAppService, RestStatsService restStatsService, PlayerAppService playerAppService) {
+	public RosterPlayerBusService(Environment env, FileStatsService fileStatsService, RosterPlayerAppService rosterPlayerAppService, RestStatsService restStatsService, PlayerAppService playerAppService, PlatformTransactionManager transactionManager) {
 		this.env = env;
 		this.fileStatsService = fileStatsService;
 		this.restStatsService = restStatsService;
 		this.playerAppService = playerAppService;
 		this.rosterPlayerAppService = rosterPlayerAppService;
+		Long reuseSeconds = env.getProperty("accumulator.roster.reuseSeconds", Long.class);
+		this.rosterLoads = new SingleFlight<>(TimeUnit.SECONDS.toMillis(reuseSeconds != null ? reuseSeconds : 300L), RosterPlayerBusiness::isCompleted);
+		this.transactionTemplate = new TransactionTemplate(transactionManager, new DefaultTransactionDefinition(TransactionDefinition.PROPAGATION_REQUIRES_NEW));
 	}
 
 	public RosterPlayerBusiness loadRoster(String asOfDateString, String teamKey) {
+		return rosterLoads.execute(teamKey + "/" + asOfDateString, () -> retrieveRoster(asOfDateString, teamKey));
+	}
+
+	private RosterPlayerBusiness retrieveRoster(String asOfDateString, String teamKey) {
 		RosterPlayerBusiness rosterPlayerBusiness = new RosterPlayerBusiness();
 		try {
 			RosterDTO rosterDTO;
@@ -58,7 +76,6 @@ public class RosterPlayerBusService {
 				rosterDTO = fileStatsService.retrieveRoster(teamKey, fromDate);
 			}
 			else if (clientSource == ClientSource.Api) {
-				ThreadSleep.sleep(Integer.valueOf(env.getProperty("sleep.duration")));
 				rosterDTO = restStatsService.retrieveRoster(teamKey, true, fromDate);
 			}
 			else {
@@ -66,98 +83,7 @@ public class RosterPlayerBusService {
 			}
 
 			if (rosterDTO.isFound()) {
-				if (rosterDTO.players.length > 0) {
-					//activate new roster players
-					logger.info("Activate new roster players");
-					List<RosterPlayer> activeRosterPlayers = rosterPlayerAppService.getRosterPlayers(rosterDTO.players, fromDate, teamKey);
-					if (activeRosterPlayers.size() > 0) {
-						for (RosterPlayer activeRosterPlayer : activeRosterPlayers) {
-							Player activePlayer = activeRosterPlayer.getPlayer();
-							RosterPlayer finderRosterPlayer = rosterPlayerAppService.findByPlayerNameTeamAsOfDate(activePlayer.getLastName(), activePlayer.getFirstName(), teamKey, fromDate);
-							if (finderRosterPlayer.isNotFound()) {
-								//player is not on current team roster
-								finderRosterPlayer = rosterPlayerAppService.findByPlayerNameBirthdateAsOfDate(activePlayer.getLastName(), activePlayer.getFirstName(), activePlayer.getBirthdate(), fromDate);
-								if (finderRosterPlayer.isNotFound()) {
-									//player is not active on any roster
-									Player finderPlayer = playerAppService.findByPlayerNameBirthdate(activePlayer.getLastName(), activePlayer.getFirstName(), activePlayer.getBirthdate());
-									if (finderPlayer.isNotFound()) {
-										//player does not exist
-										Player createPlayer = playerAppService.createPlayer(activePlayer);
-										activeRosterPlayer.setPlayer(createPlayer);
-										activeRosterPlayer.setFromDate(fromDate);
-										activeRosterPlayer.setToDate(toDate);
-										logger.info(generateLogMessage("Player does not exist", activeRosterPlayer));
-										rosterPlayerAppService.createRosterPlayer(activeRosterPlayer);
-									} else {
-										//player does exist, not on any roster
-										activeRosterPlayer.setPlayer(finderPlayer);
-										activeRosterPlayer.setFromDate(fromDate);
-										activeRosterPlayer.setToDate(toDate);
-										logger.info(generateLogMessage("Player does exist, not on any roster", activeRosterPlayer));
-										rosterPlayerAppService.createRosterPlayer(activeRosterPlayer);
-									}
-								} else {
-									//player is on another roster for current season
-									finderRosterPlayer.setToDate(DateTimeConverter.getDateMinusOneDay(fromDate));
-									logger.info(generateLogMessage("Player on another team - Terminate", finderRosterPlayer));
-									rosterPlayerAppService.updateRosterPlayer(finderRosterPlayer);
-									activeRosterPlayer.setFromDate(fromDate);
-									activeRosterPlayer.setToDate(toDate);
-									activeRosterPlayer.getPlayer().setId(finderRosterPlayer.getPlayer().getId());
-									logger.info(generateLogMessage("Player on another team - Add", activeRosterPlayer));
-									rosterPlayerAppService.createRosterPlayer(activeRosterPlayer);
-								}
-							} else {
-								//player is on current team roster
-								activeRosterPlayer.setFromDate(finderRosterPlayer.getFromDate());
-								activeRosterPlayer.setToDate(finderRosterPlayer.getToDate());
-								logger.debug(generateLogMessage("Player on current team roster", activeRosterPlayer));
-							}
-						}
-
-						//deactivate terminated roster players
-						logger.info("Deactivate terminated roster players");
-						List<RosterPlayer> priorRosterPlayers = rosterPlayerAppService.findByTeamKeyAsOfDate(fromDate, teamKey);
-						if (priorRosterPlayers.size() > 0) {
-							boolean foundPlayerOnRoster;
-							for (RosterPlayer priorRosterPlayer : priorRosterPlayers) {
-								Player priorPlayer = priorRosterPlayer.getPlayer();
-								foundPlayerOnRoster = false;
-								for (RosterPlayer activeRosterPlayer : activeRosterPlayers) {
-									Player activePlayer = activeRosterPlayer.getPlayer();
-									if (priorPlayer.getLastName().equals(activePlayer.getLastName()) &&
-											priorPlayer.getFirstName().equals(activePlayer.getFirstName()) &&
-											priorPlayer.getBirthdate().equals(activePlayer.getBirthdate())) {
-										//player is on current team roster
-										logger.debug(generateLogMessage("Player on current team roster", priorRosterPlayer));
-										foundPlayerOnRoster = true;
-										break;
-									}
-								}
-								if (!foundPlayerOnRoster) {
-									//player is not on current team roster
-									priorRosterPlayer.setToDate(DateTimeConverter.getDateMinusOneDay(fromDate));
-									logger.info(generateLogMessage("Player is not on current team roster", priorRosterPlayer));
-									rosterPlayerAppService.updateRosterPlayer(priorRosterPlayer);
-								}
-							}
-							rosterPlayerBusiness.setRosterPlayers(rosterPlayerAppService.findByTeamKeyAsOfDate(fromDate, teamKey));
-							rosterPlayerBusiness.setStatusCode(StatusCode.Completed);
-						}
-						else {
-							logger.info("Unable to find roster players on deactivation");
-							rosterPlayerBusiness.setStatusCode(StatusCode.ServerError);
-						}
-					}
-					else {
-						logger.info("Unable to get roster players on activation");
-						rosterPlayerBusiness.setStatusCode(StatusCode.ServerError);
-					}
-				}
-				else {
-					logger.info("Client exception - roster found with empty player list");
-					rosterPlayerBusiness.setStatusCode(StatusCode.ClientError);
-				}
+				transactionTemplate.execute(status -> updateRoster(rosterPlayerBusiness, rosterDTO, fromDate, toDate, teamKey));
 			}
 			else if (rosterDTO.isNotFound()) {
 				logger.info("Unable to find roster");
@@ -185,18 +111,122 @@ public class RosterPlayerBusService {
 		return rosterPlayerBusiness;
 	}
 
-	public GameBusiness loadRoster(GameBusiness gameBusiness) {
-		logger.info("Load Roster for team = " + gameBusiness.getRosterLastTeam() + " gameDate = " + DateTimeConverter.getStringDate(gameBusiness.getGame().getGameDateTime()));
-		RosterPlayerBusiness rosterPlayerBusiness = loadRoster(DateTimeConverter.getStringDate(gameBusiness.getGame().getGameDateTime()), gameBusiness.getRosterLastTeam());
-		if (rosterPlayerBusiness.isClientError()) {
-			gameBusiness.setStatusCode(StatusCode.ClientError);
+	private RosterPlayerBusiness updateRoster(RosterPlayerBusiness rosterPlayerBusiness, RosterDTO rosterDTO, LocalDate fromDate, LocalDate toDate, String teamKey) {
+		if (rosterDTO.players.length > 0) {
+			//activate new roster players
+			logger.info("Activate new roster players");
+			List<RosterPlayer> activeRosterPlayers = rosterPlayerAppService.getRosterPlayers(rosterDTO.players, fromDate, teamKey);
+			if (activeRosterPlayers.size() > 0) {
+				for (RosterPlayer activeRosterPlayer : activeRosterPlayers) {
+					Player activePlayer = activeRosterPlayer.getPlayer();
+					RosterPlayer finderRosterPlayer = rosterPlayerAppService.findByPlayerNameTeamAsOfDate(activePlayer.getLastName(), activePlayer.getFirstName(), teamKey, fromDate);
+					if (finderRosterPlayer.isNotFound()) {
+						//player is not on current team roster
+						finderRosterPlayer = rosterPlayerAppService.findByPlayerNameBirthdateAsOfDate(activePlayer.getLastName(), activePlayer.getFirstName(), activePlayer.getBirthdate(), fromDate);
+						if (finderRosterPlayer.isNotFound()) {
+							//player is not active on any roster
+							Player finderPlayer = playerAppService.findByPlayerNameBirthdate(activePlayer.getLastName(), activePlayer.getFirstName(), activePlayer.getBirthdate());
+							if (finderPlayer.isNotFound()) {
+								//player does not exist
+								Player createPlayer = playerAppService.createPlayer(activePlayer);
+								activeRosterPlayer.setPlayer(createPlayer);
+								activeRosterPlayer.setFromDate(fromDate);
+								activeRosterPlayer.setToDate(toDate);
+								logger.info(generateLogMessage("Player does not exist", activeRosterPlayer));
+								rosterPlayerAppService.createRosterPlayer(activeRosterPlayer);
+							} else {
+								//player does exist, not on any roster
+								activeRosterPlayer.setPlayer(finderPlayer);
+								activeRosterPlayer.setFromDate(fromDate);
+								activeRosterPlayer.setToDate(toDate);
+								logger.info(generateLogMessage("Player does exist, not on any roster", activeRosterPlayer));
+								rosterPlayerAppService.createRosterPlayer(activeRosterPlayer);
+							}
+						} else {
+							//player is on another roster for current season
+							finderRosterPlayer.setToDate(DateTimeConverter.getDateMinusOneDay(fromDate));
+							logger.info(generateLogMessage("Player on another team - Terminate", finderRosterPlayer));
+							rosterPlayerAppService.updateRosterPlayer(finderRosterPlayer);
+							activeRosterPlayer.setFromDate(fromDate);
+							activeRosterPlayer.setToDate(toDate);
+							activeRosterPlayer.getPlayer().setId(finderRosterPlayer.getPlayer().getId());
+							logger.info(generateLogMessage("Player on another team - Add", activeRosterPlayer));
+							rosterPlayerAppService.createRosterPlayer(activeRosterPlayer);
+						}
+					} else {
+						//player is on current team roster
+						activeRosterPlayer.setFromDate(finderRosterPlayer.getFromDate());
+						activeRosterPlayer.setToDate(finderRosterPlayer.getToDate());
+						logger.debug(generateLogMessage("Player on current team roster", activeRosterPlayer));
+					}
+				}
+
+				//deactivate terminated roster players
+				logger.info("Deactivate terminated roster players");
+				List<RosterPlayer> priorRosterPlayers = rosterPlayerAppService.findByTeamKeyAsOfDate(fromDate, teamKey);
+				if (priorRosterPlayers.size() > 0) {
+					boolean foundPlayerOnRoster;
+					for (RosterPlayer priorRosterPlayer : priorRosterPlayers) {
+						Player priorPlayer = priorRosterPlayer.getPlayer();
+						foundPlayerOnRoster = false;
+						for (RosterPlayer activeRosterPlayer : activeRosterPlayers) {
+							Player activePlayer = activeRosterPlayer.getPlayer();
+							if (priorPlayer.getLastName().equals(activePlayer.getLastName()) &&
+									priorPlayer.getFirstName().equals(activePlayer.getFirstName()) &&
+									priorPlayer.getBirthdate().equals(activePlayer.getBirthdate())) {
+								//player is on current team roster
+								logger.debug(generateLogMessage("Player on current team roster", priorRosterPlayer));
+								foundPlayerOnRoster = true;
+								break;
+							}
+						}
+						if (!foundPlayerOnRoster) {
+							//player is not on current team roster
+							priorRosterPlayer.setToDate(DateTimeConverter.getDateMinusOneDay(fromDate));
+							logger.info(generateLogMessage("Player is not on current team roster", priorRosterPlayer));
+							rosterPlayerAppService.updateRosterPlayer(priorRosterPlayer);
+						}
+					}
+					rosterPlayerBusiness.setRosterPlayers(rosterPlayerAppService.findByTeamKeyAsOfDate(fromDate, teamKey));
+					rosterPlayerBusiness.setStatusCode(StatusCode.Completed);
+				}
+				else {
+					logger.info("Unable to find roster players on deactivation");
+					rosterPlayerBusiness.setStatusCode(StatusCode.ServerError);
+				}
+			}
+			else {
+				logger.info("Unable to get roster players on activation");
+				rosterPlayerBusiness.setStatusCode(StatusCode.ServerError);
+			}
+		}
+		else {
+			logger.info("Client exception - roster found with empty player list");
+			rosterPlayerBusiness.setStatusCode(StatusCode.ClientError);
 		}
-		else if (rosterPlayerBusiness.isServerError()) {
-			gameBusiness.setStatusCode(StatusCode.ServerError);
+		return rosterPlayerBusiness;
+	}
+
+	public GameBusiness loadRoster(GameBusiness gameBusiness) {
+		String gameDate = DateTimeConverter.getStringDate(gameBusiness.getGame().getGameDateTime());
+		List<String> teamKeys = gameBusiness.getRosterUpdateTeams();
+		if (teamKeys.isEmpty()) {
+			teamKeys = Collections.singletonList(gameBusiness.getRosterLastTeam());
 		}
-		else if (rosterPlayerBusiness.isCompleted()) {
-			gameBusiness.setStatusCode(StatusCode.RosterComplete);
+		StatusCode statusCode = StatusCode.RosterComplete;
+		for (String teamKey : teamKeys) {
+			logger.info("Load Roster for team = " + teamKey + " gameDate = " + gameDate);
+			RosterPlayerBusiness rosterPlayerBusiness = loadRoster(gameDate, teamKey);
+			if (rosterPlayerBusiness.isClientError()) {
+				statusCode = StatusCode.ClientError;
+			}
+			else if (!rosterPlayerBusiness.isCompleted()) {
+				//server error or a load that ended without a status, terminal so the game is not routed back to the roster
+				statusCode = StatusCode.ServerError;
+				break;
+			}
 		}
+		gameBusiness.setStatusCode(statusCode);
 		return gameBusiness;
 	}
 
@@ -0,0 +1,36 @@
+package com.rossotti.basketball.business.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Orders game scoring against standings ranking within the process. Games are scored concurrently under the
+ * shared lock. Ranking, which may bulk delete and rebuild the season's head to head records, waits for the
+ * scoring units in flight and holds the exclusive lock until its own unit of work has committed.
+ */
+@Component
+public class ScoringLock {
+	private final ReadWriteLock lock = new ReentrantReadWriteLock(true);
+
+	public <T> T scoring(Supplier<T> unitOfWork) {
+		return run(lock.readLock(), unitOfWork);
+	}
+
+	public <T> T ranking(Supplier<T> unitOfWork) {
+		return run(lock.writeLock(), unitOfWork);
+	}
+
+	private <T> T run(Lock heldLock, Supplier<T> unitOfWork) {
+		heldLock.lock();
+		try {
+			return unitOfWork.get();
+		}
+		finally {
+			heldLock.unlock();
+		}
+	}
+}
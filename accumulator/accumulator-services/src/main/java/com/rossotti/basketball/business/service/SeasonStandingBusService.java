@@ -0,0 +1,131 @@
+package com.rossotti.basketball.business.service;
+
+import com.rossotti.basketball.app.model.SeasonStandings;
+import com.rossotti.basketball.app.service.GameAppService;
+import com.rossotti.basketball.app.service.HeadToHeadAppService;
+import com.rossotti.basketball.app.service.StandingAppService;
+import com.rossotti.basketball.business.model.StandingsBusiness;
+import com.rossotti.basketball.business.model.StatusCodeBusiness.StatusCode;
+import com.rossotti.basketball.jpa.model.BoxScore;
+import com.rossotti.basketball.jpa.model.Game;
+import com.rossotti.basketball.jpa.model.Standing;
+import com.rossotti.basketball.jpa.model.Team;
+import com.rossotti.basketball.util.DateTimeConverter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Rebuilds every day's standings for past seasons from the completed games, one sweep per season
+ * with seasons rebuilt concurrently.
+ */
+@Service
+public class SeasonStandingBusService {
+	private final GameAppService gameAppService;
+
+	private final StandingAppService standingAppService;
+
+	private final HeadToHeadAppService headToHeadAppService;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final ScoringLock scoringLock;
+
+	private final TaskExecutor rebuildTaskExecutor;
+
+	private final Logger logger = LoggerFactory.getLogger(SeasonStandingBusService.class);
+
+	@Autowired
+	public SeasonStandingBusService(GameAppService gameAppService, StandingAppService standingAppService, HeadToHeadAppService headToHeadAppService, PlatformTransactionManager transactionManager, ScoringLock scoringLock, @Qualifier("rebuildTaskExecutor") TaskExecutor rebuildTaskExecutor) {
+		this.gameAppService = gameAppService;
+		this.standingAppService = standingAppService;
+		this.headToHeadAppService = headToHeadAppService;
+		this.transactionTemplate = new TransactionTemplate(transactionManager, new DefaultTransactionDefinition(TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+		this.scoringLock = scoringLock;
+		this.rebuildTaskExecutor = rebuildTaskExecutor;
+	}
+
+	public List<StandingsBusiness> rebuildSeasons(List<LocalDate> seasonDates) {
+		List<CompletableFuture<StandingsBusiness>> futures = new ArrayList<>();
+		for (LocalDate seasonDate : seasonDates) {
+			futures.add(CompletableFuture.supplyAsync(() -> rebuildSeason(seasonDate), rebuildTaskExecutor));
+		}
+		return futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+	}
+
+	public StandingsBusiness rebuildSeason(LocalDate seasonDate) {
+		StandingsBusiness standingsBusiness = new StandingsBusiness();
+		LocalDate fromDate = DateTimeConverter.getLocalDateSeasonMin(seasonDate);
+		LocalDate toDate = DateTimeConverter.getLocalDateSeasonMax(seasonDate);
+		try {
+			List<Game> games = gameAppService.findByDateRange(fromDate, toDate).stream()
+				.filter(Game::isCompleted)
+				.sorted(Comparator.comparing(Game::getGameDateTime))
+				.collect(Collectors.toList());
+			if (games.isEmpty()) {
+				logger.info("No completed games for season " + DateTimeConverter.getStringDate(fromDate));
+				standingsBusiness.setStatusCode(StatusCode.ClientError);
+				return standingsBusiness;
+			}
+			List<Standing> standings = buildStandings(games);
+			Supplier<List<Standing>> unitOfWork = () -> transactionTemplate.execute(status -> {
+				standingAppService.deleteStandings(fromDate, toDate);
+				standingAppService.createStandings(standings);
+				headToHeadAppService.rebuildSeason(seasonDate);
+				return standings;
+			});
+			//only the current season's games are being scored, past seasons rebuild without waiting on each other
+			if (toDate.isBefore(DateTimeConverter.getLocalDateSeasonMin(LocalDate.now()))) {
+				unitOfWork.get();
+			}
+			else {
+				scoringLock.ranking(unitOfWork);
+			}
+			logger.info("Season " + DateTimeConverter.getStringDate(fromDate) + " rebuilt " + standings.size() + " standings from " + games.size() + " games");
+			standingsBusiness.setStandings(standings);
+			standingsBusiness.setStatusCode(StatusCode.Completed);
+		}
+		catch (Exception e) {
+			logger.info("Unexpected exception = " + e);
+			standingsBusiness.setStatusCode(StatusCode.ServerError);
+		}
+		return standingsBusiness;
+	}
+
+	//games in date order, standings emitted after the last game of each date
+	public List<Standing> buildStandings(List<Game> games) {
+		Map<String, Team> teams = new LinkedHashMap<>();
+		for (Game game : games) {
+			for (BoxScore boxScore : game.getBoxScores()) {
+				teams.putIfAbsent(boxScore.getTeam().getTeamKey(), boxScore.getTeam());
+			}
+		}
+		SeasonStandings seasonStandings = new SeasonStandings(new ArrayList<>(teams.values()));
+		List<Standing> standings = new ArrayList<>();
+		for (int i = 0; i < games.size(); i++) {
+			LocalDate gameDate = DateTimeConverter.getLocalDate(games.get(i).getGameDateTime());
+			seasonStandings.addGame(games.get(i));
+			if (i == games.size() - 1 || !gameDate.equals(DateTimeConverter.getLocalDate(games.get(i + 1).getGameDateTime()))) {
+				standings.addAll(seasonStandings.getStandings(gameDate));
+			}
+		}
+		return standings;
+	}
+}
@@ -1,6 +1,7 @@
 package com.rossotti.basketball.business.service;
 
 import com.rossotti.basketball.app.model.StandingRecord;
+import com.rossotti.basketball.app.service.HeadToHeadAppService;
 import com.rossotti.basketball.app.service.StandingAppService;
 import com.rossotti.basketball.business.model.ClientSourceBusiness.ClientSource;
 import com.rossotti.basketball.business.model.StandingsBusiness;
@@ -12,15 +13,20 @@ import com.rossotti.basketball.jpa.exception.NoSuchEntityException;
 import com.rossotti.basketball.jpa.model.Standing;
 import com.rossotti.basketball.jpa.model.Team;
 import com.rossotti.basketball.util.DateTimeConverter;
-import com.rossotti.basketball.util.ThreadSleep;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -34,83 +40,58 @@ public class StandingBusService {
 
 	private final StandingAppService standingAppService;
 
+	private final HeadToHeadAppService headToHeadAppService;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final ScoringLock scoringLock;
+
 	private final Logger logger = LoggerFactory.getLogger(StandingBusService.class);
 
 	@Autowired
-	public StandingBusService(Environment env, FileStatsService fileStatsService, RestStatsService restStatsService, StandingAppService standingAppService) {
+	public StandingBusService(Environment env, FileStatsService fileStatsService, RestStatsService restStatsService, StandingAppService standingAppService, HeadToHeadAppService headToHeadAppService, PlatformTransactionManager transactionManager, ScoringLock scoringLock) {
 		this.env = env;
 		this.fileStatsService = fileStatsService;
 		this.restStatsService = restStatsService;
 		this.standingAppService = standingAppService;
+		this.headToHeadAppService = headToHeadAppService;
+		this.transactionTemplate = new TransactionTemplate(transactionManager, new DefaultTransactionDefinition(TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+		this.scoringLock = scoringLock;
 	}
 
 	public StandingsBusiness rankStandings(String asOfDateString) {
 		StandingsBusiness standingsBusiness = new StandingsBusiness();
 		try {
-			StandingsDTO standingsDTO;
 			ClientSource clientSource = ClientSource.valueOf(env.getProperty("accumulator.source.standings"));
 			LocalDate asOfDate = DateTimeConverter.getLocalDate(asOfDateString);
-			String event = DateTimeConverter.getStringDateNaked(asOfDate);
-			if (clientSource == ClientSource.File) {
-				standingsDTO = fileStatsService.retrieveStandings(event);
-			}
-			else if (clientSource == ClientSource.Api) {
-				ThreadSleep.sleep(Integer.valueOf(env.getProperty("sleep.duration")));
-				standingsDTO = restStatsService.retrieveStandings(event, false);
+			if (clientSource == ClientSource.Local) {
+				String crossCheck = env.getProperty("accumulator.standings.crossCheck", "");
+				StandingsDTO crossCheckDTO = crossCheck.isEmpty() ? null : retrieveStandings(ClientSource.valueOf(crossCheck), asOfDate);
+				logger.debug("Rank local standings");
+				scoringLock.ranking(() -> transactionTemplate.execute(status -> updateLocalStandings(standingsBusiness, asOfDate, crossCheckDTO)));
 			}
 			else {
-				throw new IllegalStateException("property exception");
-			}
-
-			if (standingsDTO.isFound()) {
-				if (standingsDTO.standing.length > 0) {
-					logger.debug("Rank standings");
-
-					//clear existing standings
-					standingAppService.deleteStandings(asOfDate);
-
-					List<Standing> standings = standingAppService.getStandings(standingsDTO);
-					Map<String, StandingRecord> standingsMap = standingAppService.buildStandingsMap(standings, asOfDate);
-
-					for (Standing standing : standings) {
-						String teamKey = standing.getTeam().getTeamKey();
-						Map<String, StandingRecord> headToHeadMap = standingAppService.buildHeadToHeadMap(teamKey, asOfDate, standingsMap);
-						StandingRecord standingRecord = standingAppService.calculateStrengthOfSchedule(teamKey, asOfDate, standingsMap, headToHeadMap);
-						standing.setOpptGamesWon(standingRecord.getGamesWon());
-						standing.setOpptGamesPlayed(standingRecord.getGamesPlayed());
-						standing.setOpptOpptGamesWon(standingRecord.getOpptGamesWon());
-						standing.setOpptOpptGamesPlayed(standingRecord.getOpptGamesPlayed());
-						Standing createdStanding = standingAppService.createStanding(standing);
-						if (createdStanding.isCreated()) {
-							BigDecimal opponentRecord = standingRecord.getGamesPlayed() == 0 ? new BigDecimal(0) : new BigDecimal(standingRecord.getGamesWon()).divide(new BigDecimal(standingRecord.getGamesPlayed()), 4, RoundingMode.HALF_UP);
-							BigDecimal opponentOpponentRecord = standingRecord.getOpptGamesPlayed() == 0 ? new BigDecimal(0) : new BigDecimal(standingRecord.getOpptGamesWon()).divide(new BigDecimal(standingRecord.getOpptGamesPlayed()), 4, RoundingMode.HALF_UP);
-							logger.debug("    Opponent Games Won/Played = " + standingRecord.getGamesWon() + "-" + standingRecord.getGamesPlayed());
-							logger.debug("    OpptOppt Games Won/Played = " + standingRecord.getOpptGamesWon() + "-" + standingRecord.getOpptGamesPlayed());
-							logger.debug("    Opponent Record = " + opponentRecord);
-							logger.debug("    OpptOppt Record = " + opponentOpponentRecord);
-							logger.info("  Strength Of Schedule  " + standing.getTeam().getAbbr() + ": " + opponentRecord.multiply(new BigDecimal(2)).add(opponentOpponentRecord).divide(new BigDecimal(3), 4, RoundingMode.HALF_UP));
-						} else {
-							logger.info("Unable to create standing");
-							throw new Exception("Unknown");
-						}
+				StandingsDTO standingsDTO = retrieveStandings(clientSource, asOfDate);
+				if (standingsDTO.isFound()) {
+					if (standingsDTO.standing.length > 0) {
+						logger.debug("Rank standings");
+						//may rebuild the season's head to head records, no game is scored meanwhile
+						scoringLock.ranking(() -> transactionTemplate.execute(status -> updateStandings(standingsBusiness, standingsDTO, asOfDate)));
+					}
+					else {
+						logger.info("Client exception - standings found with empty list");
+						standingsBusiness.setStatusCode(StatusCode.ClientError);
 					}
-					standingsBusiness.setStandings(standingAppService.findStandings(asOfDate));
-					logger.info("StandingsCount: " + standings.size() + " Completed: route to outputChannel");
-					standingsBusiness.setStatusCode(StatusCode.Completed);
+				}
+				else if (standingsDTO.isNotFound()) {
+					logger.info("Unable to find standings");
+					standingsBusiness.setStatusCode(StatusCode.ClientError);
 				}
 				else {
-					logger.info("Client exception - standings found with empty list");
+					logger.info("Client error retrieving standings");
 					standingsBusiness.setStatusCode(StatusCode.ClientError);
 				}
 			}
-			else if (standingsDTO.isNotFound()) {
-				logger.info("Unable to find standings");
-				standingsBusiness.setStatusCode(StatusCode.ClientError);
-			}
-			else {
-				logger.info("Client error retrieving standings");
-				standingsBusiness.setStatusCode(StatusCode.ClientError);
-			}
 		}
 		catch (NoSuchEntityException nse) {
 			if (nse.getEntityClass().equals(Team.class)) {
@@ -128,4 +109,87 @@ public class StandingBusService {
 		}
 		return standingsBusiness;
 	}
-}
\ No newline at end of file
+
+	//a game completed after its date was ranked changes that date and every later date ranked on top of it
+	public List<StandingsBusiness> rerankStandings(String fromDateString) {
+		LocalDate fromDate = DateTimeConverter.getLocalDate(fromDateString);
+		List<LocalDate> standingDates = new ArrayList<>(standingAppService.findStandingDates(fromDate, DateTimeConverter.getLocalDateSeasonMax(fromDate)));
+		if (!standingDates.contains(fromDate)) {
+			standingDates.add(0, fromDate);
+		}
+		List<StandingsBusiness> rankedStandings = new ArrayList<>();
+		for (LocalDate standingDate : standingDates) {
+			rankedStandings.add(rankStandings(DateTimeConverter.getStringDate(standingDate)));
+		}
+		logger.info("Reranked " + rankedStandings.size() + " dates from " + fromDateString);
+		return rankedStandings;
+	}
+
+	private StandingsDTO retrieveStandings(ClientSource clientSource, LocalDate asOfDate) {
+		String event = DateTimeConverter.getStringDateNaked(asOfDate);
+		if (clientSource == ClientSource.File) {
+			return fileStatsService.retrieveStandings(event);
+		}
+		else if (clientSource == ClientSource.Api) {
+			return restStatsService.retrieveStandings(event, false);
+		}
+		else {
+			throw new IllegalStateException("property exception");
+		}
+	}
+
+	private StandingsBusiness updateStandings(StandingsBusiness standingsBusiness, StandingsDTO standingsDTO, LocalDate asOfDate) {
+		//clear existing standings with one bulk delete
+		standingAppService.deleteStandings(asOfDate, asOfDate);
+
+		List<Standing> standings = standingAppService.getStandings(standingsDTO);
+		Map<String, StandingRecord> strengthOfScheduleMap = headToHeadAppService.calculateStrengthOfSchedule(standings, asOfDate);
+		if (strengthOfScheduleMap == null) {
+			strengthOfScheduleMap = standingAppService.calculateStrengthOfSchedule(standings, asOfDate);
+		}
+		for (Standing standing : standings) {
+			StandingRecord standingRecord = strengthOfScheduleMap.get(standing.getTeam().getTeamKey());
+			standing.setOpptGamesWon(standingRecord.getGamesWon());
+			standing.setOpptGamesPlayed(standingRecord.getGamesPlayed());
+			standing.setOpptOpptGamesWon(standingRecord.getOpptGamesWon());
+			standing.setOpptOpptGamesPlayed(standingRecord.getOpptGamesPlayed());
+		}
+		return createStandings(standingsBusiness, standings, asOfDate);
+	}
+
+	private StandingsBusiness updateLocalStandings(StandingsBusiness standingsBusiness, LocalDate asOfDate, StandingsDTO crossCheckDTO) {
+		//clear existing standings with one bulk delete
+		standingAppService.deleteStandings(asOfDate, asOfDate);
+
+		//records and strength of schedule calculated from the season's completed games
+		List<Standing> standings = standingAppService.calculateStandings(asOfDate);
+		if (crossCheckDTO != null) {
+			if (crossCheckDTO.isFound() && crossCheckDTO.standing != null) {
+				int mismatches = standingAppService.compareStandings(standings, crossCheckDTO);
+				logger.info("Standings cross check: " + mismatches + " of " + crossCheckDTO.standing.length + " teams differ");
+			}
+			else {
+				logger.info("Standings cross check unavailable");
+			}
+		}
+		return createStandings(standingsBusiness, standings, asOfDate);
+	}
+
+	private StandingsBusiness createStandings(StandingsBusiness standingsBusiness, List<Standing> standings, LocalDate asOfDate) {
+		//inserted in jdbc batches, the date's rows were bulk deleted in the same transaction
+		List<Standing> createdStandings = standingAppService.createStandings(standings);
+		for (Standing standing : standings) {
+			BigDecimal opponentRecord = standing.getOpptGamesPlayed() == 0 ? new BigDecimal(0) : new BigDecimal(standing.getOpptGamesWon()).divide(new BigDecimal(standing.getOpptGamesPlayed()), 4, RoundingMode.HALF_UP);
+			BigDecimal opponentOpponentRecord = standing.getOpptOpptGamesPlayed() == 0 ? new BigDecimal(0) : new BigDecimal(standing.getOpptOpptGamesWon()).divide(new BigDecimal(standing.getOpptOpptGamesPlayed()), 4, RoundingMode.HALF_UP);
+			logger.debug("    Opponent Games Won/Played = " + standing.getOpptGamesWon() + "-" + standing.getOpptGamesPlayed());
+			logger.debug("    OpptOppt Games Won/Played = " + standing.getOpptOpptGamesWon() + "-" + standing.getOpptOpptGamesPlayed());
+			logger.debug("    Opponent Record = " + opponentRecord);
+			logger.debug("    OpptOppt Record = " + opponentOpponentRecord);
+			logger.info("  Strength Of Schedule  " + standing.getTeam().getAbbr() + ": " + opponentRecord.multiply(new BigDecimal(2)).add(opponentOpponentRecord).divide(new BigDecimal(3), 4, RoundingMode.HALF_UP));
+		}
+		standingsBusiness.setStandings(createdStandings);
+		logger.info("StandingsCount: " + standings.size() + " Completed: route to outputChannel");
+		standingsBusiness.setStatusCode(StatusCode.Completed);
+		return standingsBusiness;
+	}
+}
@@ -1,6 +1,8 @@
 package com.rossotti.basketball.client.dto;
 
-public class BoxScoreDTO {
+import java.io.Serializable;
+
+public class BoxScoreDTO implements Serializable {
 	private Short minutes;
 	private Short points;
 	private Short assists;
@@ -1,6 +1,8 @@
 package com.rossotti.basketball.client.dto;
 
-public class BoxScorePlayerDTO {
+import java.io.Serializable;
+
+public class BoxScorePlayerDTO implements Serializable {
 	private String last_name;
 	private String first_name;
 	private String display_name;
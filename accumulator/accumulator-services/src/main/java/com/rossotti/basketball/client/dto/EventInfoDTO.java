@@ -1,8 +1,9 @@
 package com.rossotti.basketball.client.dto;
 
+import java.io.Serializable;
 import java.time.ZonedDateTime;
 
-public class EventInfoDTO {
+public class EventInfoDTO implements Serializable {
 	private ZonedDateTime start_date_time;
 	private String status;
 	private String season_type;
@@ -1,6 +1,8 @@
 package com.rossotti.basketball.client.dto;
 
-public class OfficialDTO {
+import java.io.Serializable;
+
+public class OfficialDTO implements Serializable {
 	private String last_name;
 	private String first_name;
 
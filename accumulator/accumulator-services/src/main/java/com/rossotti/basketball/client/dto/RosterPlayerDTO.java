@@ -1,9 +1,10 @@
 package com.rossotti.basketball.client.dto;
 
 
+import java.io.Serializable;
 import java.time.LocalDate;
 
-public class RosterPlayerDTO {
+public class RosterPlayerDTO implements Serializable {
 	private String last_name;
 	private String first_name;
 	private String display_name;
@@ -1,6 +1,8 @@
 package com.rossotti.basketball.client.dto;
 
-public class StandingDTO {
+import java.io.Serializable;
+
+public class StandingDTO implements Serializable {
 	private String team_id;
 	private Short rank;
 	private String ordinal_rank;
@@ -1,6 +1,8 @@
 package com.rossotti.basketball.client.dto;
 
-public class StatusCodeDTO {
+import java.io.Serializable;
+
+public class StatusCodeDTO implements Serializable {
 	public enum StatusCode {
 		Found,
 		NotFound,
@@ -1,6 +1,8 @@
 package com.rossotti.basketball.client.dto;
 
-public class TeamDTO {
+import java.io.Serializable;
+
+public class TeamDTO implements Serializable {
 	private String team_id;
 	private String abbreviation;
 	private String first_name;
@@ -0,0 +1,84 @@
+package com.rossotti.basketball.client.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket shared by every xmlstats request in the process.
+ * Tokens refill at requestsPerMinute and up to burst tokens may be taken without waiting.
+ */
+@Service
+public class RateLimiterService {
+	private final long nanosPerPermit;
+	private final double burst;
+	private double storedPermits;
+	private long lastRefillNanos;
+
+	private final AtomicLong permitsAcquired = new AtomicLong();
+	private final AtomicLong waitNanos = new AtomicLong();
+	private final Logger logger = LoggerFactory.getLogger(RateLimiterService.class);
+
+	@Autowired
+	public RateLimiterService(Environment env) {
+		this(env.getProperty("xmlstats.rateLimit.requestsPerMinute", Integer.class, 6),
+			env.getProperty("xmlstats.rateLimit.burst", Integer.class, 1));
+	}
+
+	public RateLimiterService(int requestsPerMinute, int burst) {
+		if (requestsPerMinute <= 0 || burst <= 0) {
+			throw new IllegalArgumentException("requestsPerMinute and burst must be positive");
+		}
+		this.nanosPerPermit = TimeUnit.MINUTES.toNanos(1) / requestsPerMinute;
+		this.burst = burst;
+		this.storedPermits = burst;
+		this.lastRefillNanos = System.nanoTime();
+	}
+
+	public void acquire() {
+		long waitTime = reserve(System.nanoTime());
+		if (waitTime > 0) {
+			logger.debug("Rate limit reached - waiting " + TimeUnit.NANOSECONDS.toMillis(waitTime) + " ms");
+			try {
+				TimeUnit.NANOSECONDS.sleep(waitTime);
+			}
+			catch (InterruptedException ex) {
+				//hand the reserved permit back, the interrupted caller must not send its request
+				cancel();
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Interrupted waiting for rate limit permit", ex);
+			}
+		}
+		permitsAcquired.incrementAndGet();
+		waitNanos.addAndGet(waitTime);
+	}
+
+	synchronized long reserve(long nowNanos) {
+		if (nowNanos > lastRefillNanos) {
+			storedPermits = Math.min(burst, storedPermits + (double) (nowNanos - lastRefillNanos) / nanosPerPermit);
+			lastRefillNanos = nowNanos;
+		}
+		storedPermits -= 1;
+		if (storedPermits >= 0) {
+			return 0;
+		}
+		return (long) (-storedPermits * nanosPerPermit);
+	}
+
+	synchronized void cancel() {
+		storedPermits += 1;
+	}
+
+	public long getPermitsAcquired() {
+		return permitsAcquired.get();
+	}
+
+	public long getWaitTime(TimeUnit timeUnit) {
+		return timeUnit.convert(waitNanos.get(), TimeUnit.NANOSECONDS);
+	}
+}
@@ -25,14 +25,16 @@ public class RestStatsService {
 	private final Environment env;
 	private final RestClientService restClientService;
 	private final FileService fileService;
+	private final RateLimiterService rateLimiterService;
 	private final Logger logger = LoggerFactory.getLogger(RestStatsService.class);
 	private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
 
 	@Autowired
-	public RestStatsService(Environment env, RestClientService restClientService, FileService fileService) {
+	public RestStatsService(Environment env, RestClientService restClientService, FileService fileService, RateLimiterService rateLimiterService) {
 		this.env = env;
 		this.restClientService = restClientService;
 		this.fileService = fileService;
+		this.rateLimiterService = rateLimiterService;
 	}
 
 	public GameDTO retrieveBoxScore(String event, boolean persist) {
@@ -40,6 +42,7 @@ public class RestStatsService {
 		try {
 			String baseUrl = env.getProperty("xmlstats.urlBoxScore");
 			String eventUrl = baseUrl + event + ".json";
+			rateLimiterService.acquire();
 			ResponseEntity<byte[]> entity = restClientService.getJson(eventUrl);
 			if (persist) {
 				String fileName = env.getProperty("xmlstats.fileBoxScore") + "/" + event + ".json";
@@ -71,6 +74,7 @@ public class RestStatsService {
 		try {
 			String baseUrl = env.getProperty("xmlstats.urlStandings");
 			String eventUrl = baseUrl + event + ".json";
+			rateLimiterService.acquire();
 			ResponseEntity<byte[]> entity = restClientService.getJson(eventUrl);
 			if (persist) {
 				String fileName = env.getProperty("xmlstats.fileStandings") + "/" + event + ".json";
@@ -103,6 +107,7 @@ public class RestStatsService {
 		try {
 			String baseUrl = env.getProperty("xmlstats.urlRoster");
 			String eventUrl = baseUrl + event + ".json";
+			rateLimiterService.acquire();
 			ResponseEntity<byte[]> entity = restClientService.getJson(eventUrl);
 
 			StatusCode statusCode = getStatusCode(entity);
@@ -0,0 +1,52 @@
+package com.rossotti.basketball.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.integration.store.MessageGroupStore;
+import org.springframework.integration.store.MessageGroupStoreReaper;
+import org.springframework.integration.store.SimpleMessageStore;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Game aggregator message store and its reaper, shared by the services and scoreGame integration configs.
+ * The jdbc store is declared in MessageStoreConfig.
+ */
+@Configuration
+public class AggregatorConfig {
+	private final Environment env;
+
+	private final ObjectProvider<MessageGroupStoreReaper> gameAggregatorReaper;
+
+	@Autowired
+	public AggregatorConfig(Environment env, @Qualifier("gameAggregatorReaper") ObjectProvider<MessageGroupStoreReaper> gameAggregatorReaper) {
+		this.env = env;
+		this.gameAggregatorReaper = gameAggregatorReaper;
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "accumulator.pipeline.store", havingValue = "Memory", matchIfMissing = true)
+	public SimpleMessageStore gameAggregatorMessageStore() {
+		return new SimpleMessageStore();
+	}
+
+	@Bean
+	public MessageGroupStoreReaper gameAggregatorReaper(@Qualifier("gameAggregatorMessageStore") MessageGroupStore gameAggregatorMessageStore) {
+		MessageGroupStoreReaper reaper = new MessageGroupStoreReaper(gameAggregatorMessageStore);
+		reaper.setTimeout(TimeUnit.MINUTES.toMillis(env.getProperty("accumulator.aggregator.reapMinutes", Long.class, 60L)));
+		return reaper;
+	}
+
+	//removes groups kept for late games, and groups restored from a persistent store
+	//runs only where scheduling is enabled, the resident daemon, one time runs exit before groups expire
+	@Scheduled(fixedDelayString = "#{${accumulator.aggregator.reapMinutes:60} * 60000}")
+	public void reapGameAggregator() {
+		gameAggregatorReaper.getObject().run();
+	}
+}
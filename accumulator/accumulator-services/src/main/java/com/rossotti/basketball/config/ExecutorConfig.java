@@ -0,0 +1,44 @@
+package com.rossotti.basketball.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Thread pools used by the business services, shared by the services and scoreGame contexts.
+ * The integration flow's pipelineTaskExecutor stays in IntegrationConfig.
+ */
+@Configuration
+public class ExecutorConfig {
+	private final Environment env;
+
+	@Autowired
+	public ExecutorConfig(Environment env) {
+		this.env = env;
+	}
+
+	//box score retrievals running ahead of the flow, abandoned on shutdown
+	@Bean
+	public ThreadPoolTaskExecutor prefetchTaskExecutor() {
+		int poolSize = env.getProperty("accumulator.prefetch.poolSize", Integer.class, 4);
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setThreadNamePrefix("prefetch-");
+		return executor;
+	}
+
+	//past season rebuilds, running seasons finish their unit of work on shutdown
+	@Bean
+	public ThreadPoolTaskExecutor rebuildTaskExecutor() {
+		int poolSize = env.getProperty("accumulator.rebuild.poolSize", Integer.class, 2);
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setThreadNamePrefix("rebuild-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		return executor;
+	}
+}
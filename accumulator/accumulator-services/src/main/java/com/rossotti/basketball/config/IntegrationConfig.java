@@ -1,21 +1,54 @@
 package com.rossotti.basketball.config;
 
+import com.rossotti.basketball.integration.GameAggregator;
+import com.rossotti.basketball.integration.GameCorrelationStrategy;
+import com.rossotti.basketball.integration.GameReleaseStrategy;
+import com.rossotti.basketball.integration.ReplyChannelNameInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.integration.aggregator.AggregatingMessageHandler;
+import org.springframework.integration.aggregator.MethodInvokingMessageGroupProcessor;
 import org.springframework.integration.annotation.IntegrationComponentScan;
+import org.springframework.integration.annotation.ServiceActivator;
+import org.springframework.integration.channel.DefaultHeaderChannelRegistry;
 import org.springframework.integration.channel.DirectChannel;
+import org.springframework.integration.channel.ExecutorChannel;
 import org.springframework.integration.channel.QueueChannel;
 import org.springframework.integration.config.EnableIntegration;
+import org.springframework.integration.config.EnableIntegrationManagement;
+import org.springframework.integration.context.IntegrationContextUtils;
+import org.springframework.integration.expression.ValueExpression;
 import org.springframework.integration.scheduling.PollerMetadata;
+import org.springframework.integration.store.ChannelMessageStore;
+import org.springframework.integration.store.MessageGroupQueue;
+import org.springframework.integration.store.MessageGroupStore;
+import org.springframework.integration.transaction.TransactionInterceptorBuilder;
 import org.springframework.messaging.MessageChannel;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 @EnableIntegration
+@EnableIntegrationManagement
 @ComponentScan(basePackages = {"com.rossotti.basketball"})
 @IntegrationComponentScan(basePackages = {"com.rossotti.basketball.integration"})
 
 public class IntegrationConfig {
+    private final Environment env;
+
+    @Autowired
+    public IntegrationConfig(Environment env) {
+        this.env = env;
+    }
+
     @Bean
     public MessageChannel inputChannel() {
         return new DirectChannel();
@@ -32,12 +65,29 @@ public class IntegrationConfig {
     }
 
     @Bean
-    public QueueChannel gameRouterChannel() {
+    public MessageChannel gamePrefetchChannel() {
+        return new DirectChannel();
+    }
+
+    @Bean
+    public MessageChannel gameRouterChannel(@Qualifier("gameRouterMessageStore") ObjectProvider<ChannelMessageStore> gameRouterMessageStore) {
+        if (isExecutorMode()) {
+            return new ExecutorChannel(pipelineTaskExecutor());
+        }
+        ChannelMessageStore messageStore = gameRouterMessageStore.getIfAvailable();
+        if (messageStore != null) {
+            QueueChannel queueChannel = new QueueChannel(new MessageGroupQueue(messageStore, "gameRouterChannel"));
+            queueChannel.addInterceptor(new ReplyChannelNameInterceptor(headerChannelRegistry()));
+            return queueChannel;
+        }
         return new QueueChannel(20);
     }
 
     @Bean
     public MessageChannel gameScoreChannel() {
+        if (isExecutorMode()) {
+            return new ExecutorChannel(pipelineTaskExecutor());
+        }
         return new DirectChannel();
     }
 
@@ -53,6 +103,9 @@ public class IntegrationConfig {
 
     @Bean
     public MessageChannel rosterLoadChannel() {
+        if (isExecutorMode()) {
+            return new ExecutorChannel(pipelineTaskExecutor());
+        }
         return new DirectChannel();
     }
 
@@ -66,16 +119,67 @@ public class IntegrationConfig {
         return new DirectChannel();
     }
 
+    @Bean
+    public MessageChannel gameRetryChannel() {
+        return new DirectChannel();
+    }
+
     @Bean
     public MessageChannel outputChannel() {
         return new DirectChannel();
     }
 
+    @Bean
+    @ServiceActivator(inputChannel = "gameAggregatorChannel")
+    public AggregatingMessageHandler gameAggregatorHandler(GameAggregator gameAggregator, @Qualifier("gameAggregatorMessageStore") MessageGroupStore gameAggregatorMessageStore) {
+        AggregatingMessageHandler handler = new AggregatingMessageHandler(
+            new MethodInvokingMessageGroupProcessor(gameAggregator, "aggregate"),
+            gameAggregatorMessageStore,
+            new GameCorrelationStrategy(),
+            new GameReleaseStrategy());
+        handler.setOutputChannelName("standingsRouterChannel");
+        handler.setExpireGroupsUponCompletion(true);
+        // release games scored so far when the slowest game exceeds the timeout, late games go to gameRetryChannel
+        long timeout = TimeUnit.SECONDS.toMillis(env.getProperty("accumulator.aggregator.timeoutSeconds", Long.class, 300L));
+        handler.setGroupTimeoutExpression(new ValueExpression<>(timeout));
+        handler.setSendPartialResultOnExpiry(true);
+        handler.setExpireGroupsUponTimeout(false);
+        handler.setDiscardChannelName("gameRetryChannel");
+        // groups kept for late games are removed by the gameAggregatorReaper in AggregatorConfig
+        return handler;
+    }
+
     @Bean(name = PollerMetadata.DEFAULT_POLLER)
-    public PollerMetadata defaultPoller() {
+    public PollerMetadata defaultPoller(@Qualifier("gameRouterMessageStore") ObjectProvider<ChannelMessageStore> gameRouterMessageStore, ObjectProvider<PlatformTransactionManager> transactionManager) {
         PollerMetadata pollerMetadata = new PollerMetadata();
         pollerMetadata.setMaxMessagesPerPoll(1L);
  //       pollerMetadata.setTrigger(new PeriodicTrigger(10));
+        if (gameRouterMessageStore.getIfAvailable() != null) {
+            // rolls back the message removal if the flow fails, games, rosters and standings commit
+            // in their own REQUIRES_NEW units of work so a failed game does not undo the rest of the date
+            pollerMetadata.setAdviceChain(Collections.singletonList(
+                new TransactionInterceptorBuilder().transactionManager(transactionManager.getObject()).build()));
+        }
         return pollerMetadata;
     }
+
+    @Bean(name = IntegrationContextUtils.INTEGRATION_HEADER_CHANNEL_REGISTRY_BEAN_NAME)
+    public DefaultHeaderChannelRegistry headerChannelRegistry() {
+        return new DefaultHeaderChannelRegistry(TimeUnit.MINUTES.toMillis(env.getProperty("accumulator.pipeline.replyTimeoutMinutes", Long.class, 60L)));
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor pipelineTaskExecutor() {
+        int poolSize = env.getProperty("accumulator.pipeline.poolSize", Integer.class, 4);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix("pipeline-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    private boolean isExecutorMode() {
+        return "Executor".equalsIgnoreCase(env.getProperty("accumulator.pipeline.mode", "Queue"));
+    }
 }
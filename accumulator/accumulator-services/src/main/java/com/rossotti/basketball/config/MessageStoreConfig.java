@@ -0,0 +1,67 @@
+package com.rossotti.basketball.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.integration.jdbc.store.JdbcChannelMessageStore;
+import org.springframework.integration.jdbc.store.JdbcMessageStore;
+import org.springframework.integration.jdbc.store.channel.ChannelMessageStoreQueryProvider;
+import org.springframework.integration.jdbc.store.channel.H2ChannelMessageStoreQueryProvider;
+import org.springframework.integration.jdbc.store.channel.MySqlChannelMessageStoreQueryProvider;
+import org.springframework.jdbc.datasource.init.DataSourceInitializer;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(name = "accumulator.pipeline.store", havingValue = "Jdbc")
+public class MessageStoreConfig {
+	private static final String REGION = "accumulator";
+
+	private final Environment env;
+
+	@Autowired
+	public MessageStoreConfig(Environment env) {
+		this.env = env;
+	}
+
+	@Bean
+	public JdbcChannelMessageStore gameRouterMessageStore(DataSource dataSource) {
+		JdbcChannelMessageStore messageStore = new JdbcChannelMessageStore(dataSource);
+		messageStore.setChannelMessageStoreQueryProvider(queryProvider());
+		messageStore.setRegion(REGION);
+		return messageStore;
+	}
+
+	@Bean
+	public JdbcMessageStore gameAggregatorMessageStore(DataSource dataSource) {
+		JdbcMessageStore messageStore = new JdbcMessageStore(dataSource);
+		messageStore.setRegion(REGION);
+		return messageStore;
+	}
+
+	@Bean
+	public DataSourceInitializer messageStoreInitializer(DataSource dataSource) {
+		ResourceDatabasePopulator populator = new ResourceDatabasePopulator(new ClassPathResource("org/springframework/integration/jdbc/schema-" + getPlatform() + ".sql"));
+		populator.setContinueOnError(true);
+		DataSourceInitializer initializer = new DataSourceInitializer();
+		initializer.setDataSource(dataSource);
+		initializer.setDatabasePopulator(populator);
+		initializer.setEnabled(env.getProperty("accumulator.pipeline.store.initialize", Boolean.class, true));
+		return initializer;
+	}
+
+	private ChannelMessageStoreQueryProvider queryProvider() {
+		if ("h2".equals(getPlatform())) {
+			return new H2ChannelMessageStoreQueryProvider();
+		}
+		return new MySqlChannelMessageStoreQueryProvider();
+	}
+
+	private String getPlatform() {
+		return env.getProperty("accumulator.pipeline.store.platform", "mysql").toLowerCase();
+	}
+}
@@ -1,17 +1,37 @@
 package com.rossotti.basketball.config;
 
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jpa.HibernateMetrics;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.callback.BaseFlywayCallback;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.jpa.EntityManagerFactoryDependsOnPostProcessor;
 import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.SharedCacheMode;
 import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
 import java.util.Properties;
 
 @Configuration
@@ -20,19 +40,57 @@ public class PersistenceConfig {
 
 	private final Environment env;
 
+	private final ObjectProvider<MeterRegistry> meterRegistry;
+
 	@Autowired
-	public PersistenceConfig(Environment env) {
+	public PersistenceConfig(Environment env, ObjectProvider<MeterRegistry> meterRegistry) {
 		this.env = env;
+		this.meterRegistry = meterRegistry;
 	}
 
 	@Bean
 	DataSource dataSource() {
-		DataSourceBuilder dataSourceBuilder = DataSourceBuilder.create();
+		DataSourceBuilder<HikariDataSource> dataSourceBuilder = DataSourceBuilder.create().type(HikariDataSource.class);
 		dataSourceBuilder.driverClassName(env.getRequiredProperty("db.driver"));
 		dataSourceBuilder.url(env.getRequiredProperty("db.url"));
 		dataSourceBuilder.username(env.getRequiredProperty("db.username"));
 		dataSourceBuilder.password(env.getRequiredProperty("db.password"));
-		return dataSourceBuilder.build();
+		HikariDataSource dataSource = dataSourceBuilder.build();
+		dataSource.setPoolName(env.getProperty("db.pool.name", "accumulator"));
+		dataSource.setMaximumPoolSize(env.getProperty("db.pool.maximumPoolSize", Integer.class, 10));
+		dataSource.setMinimumIdle(env.getProperty("db.pool.minimumIdle", Integer.class, 2));
+		dataSource.setConnectionTimeout(env.getProperty("db.pool.connectionTimeout", Long.class, 30000L));
+		dataSource.setIdleTimeout(env.getProperty("db.pool.idleTimeout", Long.class, 600000L));
+		dataSource.setMaxLifetime(env.getProperty("db.pool.maxLifetime", Long.class, 1800000L));
+		dataSource.setLeakDetectionThreshold(env.getProperty("db.pool.leakDetectionThreshold", Long.class, 60000L));
+		dataSource.setRegisterMbeans(env.getProperty("db.pool.registerMbeans", Boolean.class, true));
+		if (dataSource.getJdbcUrl().startsWith("jdbc:mysql")) {
+			dataSource.addDataSourceProperty("cachePrepStmts", env.getProperty("db.pool.cachePrepStmts", "true"));
+			dataSource.addDataSourceProperty("prepStmtCacheSize", env.getProperty("db.pool.prepStmtCacheSize", "250"));
+			dataSource.addDataSourceProperty("prepStmtCacheSqlLimit", env.getProperty("db.pool.prepStmtCacheSqlLimit", "2048"));
+			dataSource.addDataSourceProperty("useServerPrepStmts", env.getProperty("db.pool.useServerPrepStmts", "true"));
+		}
+		meterRegistry.ifAvailable(registry -> dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+		return dataSource;
+	}
+
+	@Bean(initMethod = "migrate")
+	@ConditionalOnProperty(name = "db.migrate.enabled", havingValue = "true")
+	public Flyway flyway() {
+		Flyway flyway = new Flyway();
+		flyway.setDataSource(dataSource());
+		flyway.setLocations(env.getProperty("db.migrate.locations", "classpath:db/migration"));
+		flyway.setBaselineOnMigrate(true);
+		flyway.setBaselineVersionAsString("1");
+		flyway.setCallbacks(new ExistingSchemaCallback());
+		return flyway;
+	}
+
+	//entity manager factory waits for the flyway bean, which is only declared when migrations are enabled
+	@Bean
+	@ConditionalOnProperty(name = "db.migrate.enabled", havingValue = "true")
+	public static EntityManagerFactoryDependsOnPostProcessor entityManagerFactoryDependsOnFlyway() {
+		return new EntityManagerFactoryDependsOnPostProcessor("flyway");
 	}
 
 	@Bean
@@ -47,16 +105,59 @@ public class PersistenceConfig {
 		jpaProperties.put("hibernate.hbm2ddl.auto", env.getRequiredProperty("hibernate.hbm2ddl.auto"));
 		jpaProperties.put("hibernate.ejb.naming_strategy", env.getRequiredProperty("hibernate.ejb.naming_strategy"));
 		jpaProperties.put("hibernate.show_sql", env.getRequiredProperty("hibernate.show_sql"));
-		jpaProperties.put("hibernate.enable_lazy_load_no_trans", true);
+		jpaProperties.put("hibernate.enable_lazy_load_no_trans", env.getProperty("hibernate.enable_lazy_load_no_trans", "true"));
+		jpaProperties.put("hibernate.jdbc.batch_size", env.getProperty("hibernate.jdbc.batch_size", "50"));
+		jpaProperties.put("hibernate.order_inserts", true);
+		jpaProperties.put("hibernate.order_updates", true);
+		jpaProperties.put("hibernate.jdbc.batch_versioned_data", true);
+		if (env.getProperty("hibernate.cache.enabled", Boolean.class, false)) {
+			jpaProperties.put("javax.persistence.sharedCache.mode", SharedCacheMode.ENABLE_SELECTIVE.name());
+			jpaProperties.put("hibernate.cache.use_second_level_cache", true);
+			jpaProperties.put("hibernate.cache.use_query_cache", true);
+			jpaProperties.put("hibernate.cache.region.factory_class", "org.hibernate.cache.jcache.JCacheRegionFactory");
+			jpaProperties.put("hibernate.javax.cache.provider", "org.ehcache.jsr107.EhcacheCachingProvider");
+			jpaProperties.put("hibernate.javax.cache.uri", getCacheConfigUri());
+			jpaProperties.put("hibernate.generate_statistics", true);
+		}
 
 		entityManagerFactoryBean.setJpaProperties(jpaProperties);
 		return entityManagerFactoryBean;
 	}
 
+	@Bean
+	@ConditionalOnProperty(name = "hibernate.cache.enabled", havingValue = "true")
+	public MeterBinder hibernateMetrics(EntityManagerFactory entityManagerFactory) {
+		return new HibernateMetrics(entityManagerFactory, "accumulator", Collections.emptyList());
+	}
+
 	@Bean
 	public PlatformTransactionManager transactionManager() {
 		JpaTransactionManager transactionManager = new JpaTransactionManager();
 		transactionManager.setEntityManagerFactory(entityManagerFactory().getObject());
 		return transactionManager;
 	}
-}
\ No newline at end of file
+
+	private String getCacheConfigUri() {
+		try {
+			return new ClassPathResource(env.getProperty("hibernate.cache.config", "ehcache.xml")).getURL().toURI().toString();
+		}
+		catch (IOException | URISyntaxException ex) {
+			throw new IllegalStateException("Unable to locate cache configuration", ex);
+		}
+	}
+
+	//migrations start from the existing accumulator schema baselined at version 1, they do not create it
+	private static class ExistingSchemaCallback extends BaseFlywayCallback {
+		@Override
+		public void beforeMigrate(Connection connection) {
+			try (ResultSet tables = connection.getMetaData().getTables(connection.getCatalog(), null, "game", null)) {
+				if (!tables.next()) {
+					throw new FlywayException("Migrations require an existing accumulator schema, database has no game table");
+				}
+			}
+			catch (SQLException ex) {
+				throw new FlywayException("Unable to read schema metadata", ex);
+			}
+		}
+	}
+}
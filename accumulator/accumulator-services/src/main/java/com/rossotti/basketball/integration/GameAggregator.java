@@ -2,11 +2,13 @@ package com.rossotti.basketball.integration;
 
 import com.rossotti.basketball.business.model.GameBusiness;
 import com.rossotti.basketball.business.model.StatusCodeBusiness.StatusCode;
+import com.rossotti.basketball.business.service.BoxScoreBusService;
 import com.rossotti.basketball.jpa.model.Game;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.integration.annotation.Aggregator;
+import org.springframework.integration.IntegrationMessageHeaderAccessor;
 import org.springframework.messaging.Message;
 
 import java.util.ArrayList;
@@ -15,10 +17,35 @@ import java.util.List;
 
 @Configuration
 public class GameAggregator {
+	private final BoxScoreBusService boxScoreBusService;
+	private final PipelineMetrics pipelineMetrics;
 	private final Logger logger = LoggerFactory.getLogger(GameAggregator.class);
 
-	@Aggregator(inputChannel = "gameAggregatorChannel", outputChannel = "standingsRouterChannel")
+	@Autowired
+	public GameAggregator(BoxScoreBusService boxScoreBusService, PipelineMetrics pipelineMetrics) {
+		this.boxScoreBusService = boxScoreBusService;
+		this.pipelineMetrics = pipelineMetrics;
+	}
+
 	public List<Game> aggregate(Collection<Message<?>> games) {
+		List<Game> gameList = pipelineMetrics.time("gameAggregator", () -> aggregateGames(games));
+		if (!games.isEmpty()) {
+			//group released complete or partial on timeout
+			Message<?> first = games.iterator().next();
+			Long splitTime = first.getHeaders().get(GameSplitter.SPLIT_TIME, Long.class);
+			if (splitTime != null) {
+				pipelineMetrics.elapsed("gameRelease", splitTime);
+			}
+			//prefetches never taken are not needed
+			Object correlationId = first.getHeaders().get(IntegrationMessageHeaderAccessor.CORRELATION_ID);
+			if (correlationId != null) {
+				boxScoreBusService.evict(correlationId.toString());
+			}
+		}
+		return gameList;
+	}
+
+	private List<Game> aggregateGames(Collection<Message<?>> games) {
 		logger.debug("begin gameAggregator");
 		List<Game> gameList = new ArrayList<>();
 		for (Message<?> msg : games) {
@@ -26,6 +53,7 @@ public class GameAggregator {
 			logger.debug("msg.sequenceNumber = " + msg.getHeaders().get("sequenceNumber"));
 			logger.debug("msg.sequenceSize = " + msg.getHeaders().get("sequenceSize"));			
 			GameBusiness gameBusiness = (GameBusiness)msg.getPayload();
+			pipelineMetrics.count("gameAggregator", gameBusiness.getStatusCode());
 			if (null == gameBusiness.getStatusCode() || gameBusiness.getStatusCode().equals(StatusCode.ServerError) || gameBusiness.getStatusCode().equals(StatusCode.ClientError)) {
 				gameList.add(null);
 			}
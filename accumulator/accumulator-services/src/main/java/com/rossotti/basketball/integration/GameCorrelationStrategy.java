@@ -1,18 +1,18 @@
 package com.rossotti.basketball.integration;
 
+import org.springframework.integration.IntegrationMessageHeaderAccessor;
 import org.springframework.integration.aggregator.CorrelationStrategy;
 import org.springframework.messaging.Message;
 
-class GameCorrelationStrategy implements CorrelationStrategy {
-	// key put into header and used by correlation strategy to link several Message<Product> to appropriate oneMessage<Order>
-	private static final String CORRELATION_KEY = "orderId";
-	// key of parameter meaning if split element is the last element needed to aggregate
-	public static final String LAST_KEY = "isLast";
-//	@Override
+public class GameCorrelationStrategy implements CorrelationStrategy {
+	// correlationId is set once per split by GameSplitter, so all games of a gateway request share one group
+	private static final String CORRELATION_KEY = IntegrationMessageHeaderAccessor.CORRELATION_ID;
+
+	@Override
 	public Object getCorrelationKey(Message<?> message) {
 		if (!message.getHeaders().containsKey(CORRELATION_KEY)) {
-			throw new IllegalStateException("Message splitted by order splitter must contain orderId header. Present headers " + "were: "+ message.getHeaders());
+			throw new IllegalStateException("Message split by game splitter must contain correlationId header. Present headers were: " + message.getHeaders());
 		}
 		return message.getHeaders().get(CORRELATION_KEY);
 	}
-}
\ No newline at end of file
+}
@@ -16,15 +16,21 @@ import java.util.List;
 @Configuration
 public class GameFinderActivator {
 	private final GameAppService gameAppService;
+	private final PipelineMetrics pipelineMetrics;
 	private final Logger logger = LoggerFactory.getLogger(GameFinderActivator.class);
 
 	@Autowired
-	public GameFinderActivator(GameAppService gameAppService) {
+	public GameFinderActivator(GameAppService gameAppService, PipelineMetrics pipelineMetrics) {
 		this.gameAppService = gameAppService;
+		this.pipelineMetrics = pipelineMetrics;
 	}
 
 	@ServiceActivator(inputChannel = "inputChannel", outputChannel = "gameFinderChannel")
 	public List<Game> processGames(ServiceProperties properties) {
+		return pipelineMetrics.time("gameFinder", () -> findGames(properties));
+	}
+
+	private List<Game> findGames(ServiceProperties properties) {
 		List<Game> games = new ArrayList<>();
 		LocalDate gameDate = DateTimeConverter.getLocalDate(properties.getGameDate());
 		if (properties.getGameTeam() == null || properties.getGameTeam().isEmpty()) {
@@ -0,0 +1,35 @@
+package com.rossotti.basketball.integration;
+
+import com.rossotti.basketball.business.model.GameBusiness;
+import com.rossotti.basketball.business.service.BoxScoreBusService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.integration.annotation.ServiceActivator;
+
+@Configuration
+public class GamePrefetchActivator {
+	private final BoxScoreBusService boxScoreBusService;
+	private final PipelineMetrics pipelineMetrics;
+	private final Logger logger = LoggerFactory.getLogger(GamePrefetchActivator.class);
+
+	@Autowired
+	public GamePrefetchActivator(BoxScoreBusService boxScoreBusService, PipelineMetrics pipelineMetrics) {
+		this.boxScoreBusService = boxScoreBusService;
+		this.pipelineMetrics = pipelineMetrics;
+	}
+
+	@ServiceActivator(inputChannel = "gamePrefetchChannel", outputChannel = "gameRouterChannel")
+	public GameBusiness attachBoxScore(GameBusiness gameBusiness) {
+		if (gameBusiness.getGame().isScheduled()) {
+			gameBusiness.setGameDTO(pipelineMetrics.time("gamePrefetch", () -> boxScoreBusService.take(gameBusiness.getGame())));
+			logger.info("GameBusiness " + gameBusiness.getGame().getBoxScoreAway().getTeam().getAbbr() + " at " +
+				gameBusiness.getGame().getBoxScoreHome().getTeam().getAbbr() + " " +
+				(gameBusiness.getGameDTO() != null ? "box score prefetched" : "box score not prefetched") +
+				": route to gameRouterChannel"
+			);
+		}
+		return gameBusiness;
+	}
+}
@@ -2,16 +2,12 @@ package com.rossotti.basketball.integration;
 
 import org.springframework.integration.aggregator.ReleaseStrategy;
 import org.springframework.integration.store.MessageGroup;
-import org.springframework.messaging.Message;
 
-class GameReleaseStrategy implements ReleaseStrategy {
+public class GameReleaseStrategy implements ReleaseStrategy {
 
+	@Override
 	public boolean canRelease(MessageGroup messageGroup) {
-		for (Message<?> msg : messageGroup.getMessages()) {
-			if ((Boolean)msg.getHeaders().get(GameCorrelationStrategy.LAST_KEY)) {
-				return true;
-			}
-		}
-		return false;
+		int sequenceSize = messageGroup.getSequenceSize();
+		return sequenceSize > 0 && messageGroup.size() >= sequenceSize;
 	}
-}
\ No newline at end of file
+}
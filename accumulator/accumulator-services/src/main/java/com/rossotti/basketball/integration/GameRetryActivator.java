@@ -0,0 +1,49 @@
+package com.rossotti.basketball.integration;
+
+import com.rossotti.basketball.business.model.GameBusiness;
+import com.rossotti.basketball.business.model.StandingsBusiness;
+import com.rossotti.basketball.business.service.StandingBusService;
+import com.rossotti.basketball.jpa.model.Game;
+import com.rossotti.basketball.util.DateTimeConverter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.integration.annotation.ServiceActivator;
+
+import java.util.List;
+
+@Configuration
+public class GameRetryActivator {
+	private final StandingBusService standingBusService;
+	private final PipelineMetrics pipelineMetrics;
+	private final Logger logger = LoggerFactory.getLogger(GameRetryActivator.class);
+
+	@Autowired
+	public GameRetryActivator(StandingBusService standingBusService, PipelineMetrics pipelineMetrics) {
+		this.standingBusService = standingBusService;
+		this.pipelineMetrics = pipelineMetrics;
+	}
+
+	@ServiceActivator(inputChannel = "gameRetryChannel")
+	public void retryGame(GameBusiness gameBusiness) {
+		pipelineMetrics.count("gameRetry", gameBusiness.getStatusCode());
+		Game game = gameBusiness.getGame();
+		String gameDate = DateTimeConverter.getStringDate(game.getGameDateTime());
+		if (gameBusiness.isCompleted()) {
+			//ranked in date order, serialized with the ranking of the main flow
+			List<StandingsBusiness> standingsBusinesses = pipelineMetrics.time("gameRetry", () -> standingBusService.rerankStandings(gameDate));
+			logger.info("gameRetry: " + game.getBoxScoreAway().getTeam().getAbbr() + " at " +
+				game.getBoxScoreHome().getTeam().getAbbr() + " completed after release: standings reranked for " +
+				standingsBusinesses.size() + " dates from " + gameDate + ", completed " +
+				standingsBusinesses.stream().filter(StandingsBusiness::isCompleted).count()
+			);
+		}
+		else {
+			logger.info("gameRetry: " + game.getBoxScoreAway().getTeam().getAbbr() + " at " +
+				game.getBoxScoreHome().getTeam().getAbbr() + " " + gameBusiness.getStatusCode() +
+				" after release: rescore on next run for " + gameDate
+			);
+		}
+	}
+}
@@ -11,16 +11,19 @@ import org.springframework.integration.annotation.ServiceActivator;
 @Configuration
 public class GameScorerActivator {
 	private final GameBusService gameBusService;
+	private final PipelineMetrics pipelineMetrics;
 	private final Logger logger = LoggerFactory.getLogger(GameScorerActivator.class);
 
 	@Autowired
-	public GameScorerActivator(GameBusService gameBusService) {
+	public GameScorerActivator(GameBusService gameBusService, PipelineMetrics pipelineMetrics) {
 		this.gameBusService = gameBusService;
+		this.pipelineMetrics = pipelineMetrics;
 	}
 
 	@ServiceActivator(inputChannel = "gameScoreChannel", outputChannel = "gameResultsChannel")
-	public GameBusiness scoreGame(GameBusiness gameBusiness) {
-		gameBusiness = gameBusService.scoreGame(gameBusiness);
+	public GameBusiness scoreGame(GameBusiness input) {
+		GameBusiness gameBusiness = pipelineMetrics.time("gameScorer", () -> gameBusService.scoreGame(input));
+		pipelineMetrics.count("gameScorer", gameBusiness.getStatusCode());
 		logger.info(gameBusiness.getStatusCode() + ": route to gameResultsChannel");
 		return gameBusiness;
 	}
@@ -2,9 +2,11 @@ package com.rossotti.basketball.integration;
 
 import com.rossotti.basketball.business.model.GameBusiness;
 import com.rossotti.basketball.business.model.StatusCodeBusiness;
+import com.rossotti.basketball.business.service.BoxScoreBusService;
 import com.rossotti.basketball.jpa.model.Game;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.integration.annotation.Splitter;
 import org.springframework.integration.support.MessageBuilder;
@@ -12,25 +14,46 @@ import org.springframework.messaging.Message;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 @Configuration
 public class GameSplitter {
+	//carried through the flow to the aggregator, which times each group from split to release
+	static final String SPLIT_TIME = "splitTime";
+
+	private final BoxScoreBusService boxScoreBusService;
+	private final PipelineMetrics pipelineMetrics;
 	private final Logger logger = LoggerFactory.getLogger(GameSplitter.class);
 
-	@Splitter(inputChannel = "gameSplitterChannel", outputChannel = "gameRouterChannel")
+	@Autowired
+	public GameSplitter(BoxScoreBusService boxScoreBusService, PipelineMetrics pipelineMetrics) {
+		this.boxScoreBusService = boxScoreBusService;
+		this.pipelineMetrics = pipelineMetrics;
+	}
+
+	@Splitter(inputChannel = "gameSplitterChannel", outputChannel = "gamePrefetchChannel")
 	public List<Message<?>> splitMessage(List<Game> games) {
+		return pipelineMetrics.time("gameSplitter", () -> split(games));
+	}
+
+	private List<Message<?>> split(List<Game> games) {
 		List<Message<?>> messages = new ArrayList<>();
+		//one aggregator group per request, games on a date tip off at different times
+		String correlationId = UUID.randomUUID().toString();
+		long splitTime = System.currentTimeMillis();
+		boxScoreBusService.prefetch(correlationId, games);
 		for (int i = 0; i < games.size(); i++) {
 			Game game = games.get(i);
 			Message<?> msg = MessageBuilder
 				.withPayload(new GameBusiness(game, StatusCodeBusiness.StatusCode.Initial))
-				.setCorrelationId(game.getGameDateTime())
+				.setCorrelationId(correlationId)
 				.setSequenceNumber(i)
 				.setSequenceSize(games.size())
+				.setHeader(SPLIT_TIME, splitTime)
 				.build();
 			messages.add(msg);
 		}
-		logger.info("gameCount: " + games.size() + ": route to gameRouterChannel");
+		logger.info("gameCount: " + games.size() + ": route to gamePrefetchChannel");
 		return messages;
 	}
 }
\ No newline at end of file
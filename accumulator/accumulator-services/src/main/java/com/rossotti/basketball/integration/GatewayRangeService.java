@@ -0,0 +1,68 @@
+package com.rossotti.basketball.integration;
+
+import com.rossotti.basketball.app.service.GameAppService;
+import com.rossotti.basketball.business.service.BoxScoreBusService;
+import com.rossotti.basketball.jpa.model.Game;
+import com.rossotti.basketball.util.DateTimeConverter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class GatewayRangeService {
+	private final GatewayService gatewayService;
+	private final GameAppService gameAppService;
+	private final BoxScoreBusService boxScoreBusService;
+	private final Logger logger = LoggerFactory.getLogger(GatewayRangeService.class);
+
+	@Autowired
+	public GatewayRangeService(GatewayService gatewayService, GameAppService gameAppService, BoxScoreBusService boxScoreBusService) {
+		this.gatewayService = gatewayService;
+		this.gameAppService = gameAppService;
+		this.boxScoreBusService = boxScoreBusService;
+	}
+
+	public List<Game> processGames(String fromDate, String toDate, String gameTeam) {
+		List<Game> processedGames = new ArrayList<>();
+		LocalDate gameDate = DateTimeConverter.getLocalDate(fromDate);
+		LocalDate lastDate = DateTimeConverter.getLocalDate(toDate);
+		try {
+			prefetch(gameDate, gameTeam);
+			while (!gameDate.isAfter(lastDate)) {
+				if (gameDate.isBefore(lastDate)) {
+					prefetch(gameDate.plusDays(1), gameTeam);
+				}
+				ServiceProperties serviceProperties = new ServiceProperties();
+				serviceProperties.setGameDate(DateTimeConverter.getStringDate(gameDate));
+				serviceProperties.setGameTeam(gameTeam);
+				List<Game> games = gatewayService.processGames(serviceProperties);
+				logger.info("gameDate: " + serviceProperties.getGameDate() + " processed " + games.size() + " games");
+				processedGames.addAll(games);
+				gameDate = gameDate.plusDays(1);
+			}
+		}
+		finally {
+			boxScoreBusService.clear();
+		}
+		return processedGames;
+	}
+
+	private void prefetch(LocalDate gameDate, String gameTeam) {
+		List<Game> games = new ArrayList<>();
+		if (gameTeam == null || gameTeam.isEmpty()) {
+			games = gameAppService.findByAsOfDate(gameDate);
+		}
+		else {
+			Game game = gameAppService.findByTeamKeyAsOfDate(gameTeam, gameDate);
+			if (game.isFound()) {
+				games.add(game);
+			}
+		}
+		boxScoreBusService.prefetch(games);
+	}
+}
@@ -0,0 +1,83 @@
+package com.rossotti.basketball.integration;
+
+import com.rossotti.basketball.business.model.StatusCodeBusiness.StatusCode;
+import com.rossotti.basketball.client.service.RateLimiterService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.integration.channel.QueueChannel;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Component
+public class PipelineMetrics {
+	private final MeterRegistry meterRegistry;
+	private final ListableBeanFactory beanFactory;
+
+	@Autowired
+	public PipelineMetrics(ObjectProvider<MeterRegistry> meterRegistry, ListableBeanFactory beanFactory, RateLimiterService rateLimiterService) {
+		this.meterRegistry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+		this.beanFactory = beanFactory;
+		Gauge.builder("accumulator.pipeline.queue.size", this, metrics -> metrics.queueSize("gameRouterChannel"))
+			.tag("channel", "gameRouterChannel")
+			.description("Messages waiting on gameRouterChannel")
+			.register(this.meterRegistry);
+		FunctionCounter.builder("xmlstats.rateLimit.permits", rateLimiterService, RateLimiterService::getPermitsAcquired)
+			.description("Permits acquired for xmlstats requests")
+			.register(this.meterRegistry);
+		FunctionCounter.builder("xmlstats.rateLimit.wait", rateLimiterService, limiter -> limiter.getWaitTime(TimeUnit.MILLISECONDS) / 1000.0)
+			.baseUnit("seconds")
+			.description("Time spent waiting for xmlstats permits")
+			.register(this.meterRegistry);
+	}
+
+	public <T> T time(String stage, Supplier<T> supplier) {
+		return stageTimer(stage).record(supplier);
+	}
+
+	public void record(String stage, Runnable runnable) {
+		stageTimer(stage).record(runnable);
+	}
+
+	public void elapsed(String stage, long startMillis) {
+		stageTimer(stage).record(System.currentTimeMillis() - startMillis, TimeUnit.MILLISECONDS);
+	}
+
+	public void count(String stage, StatusCode statusCode) {
+		Counter.builder("accumulator.pipeline.games")
+			.tag("stage", stage)
+			.tag("statusCode", String.valueOf(statusCode))
+			.register(meterRegistry)
+			.increment();
+	}
+
+	private Timer stageTimer(String stage) {
+		return Timer.builder("accumulator.pipeline.stage")
+			.tag("stage", stage)
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+	}
+
+	private double queueSize(String channelName) {
+		if (!beanFactory.containsBean(channelName)) {
+			return 0;
+		}
+		Object channel = beanFactory.getBean(channelName);
+		if (channel instanceof QueueChannel) {
+			return ((QueueChannel) channel).getQueueSize();
+		}
+		if (beanFactory.containsBean("pipelineTaskExecutor")) {
+			return beanFactory.getBean("pipelineTaskExecutor", ThreadPoolTaskExecutor.class).getThreadPoolExecutor().getQueue().size();
+		}
+		return 0;
+	}
+}
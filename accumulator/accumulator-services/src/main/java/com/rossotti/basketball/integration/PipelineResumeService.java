@@ -0,0 +1,51 @@
+package com.rossotti.basketball.integration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.integration.jdbc.store.JdbcChannelMessageStore;
+import org.springframework.integration.jdbc.store.JdbcMessageStore;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+
+@Service
+@ConditionalOnProperty(name = "accumulator.pipeline.store", havingValue = "Jdbc")
+public class PipelineResumeService {
+	private final JdbcChannelMessageStore gameRouterMessageStore;
+	private final JdbcMessageStore gameAggregatorMessageStore;
+	private final Logger logger = LoggerFactory.getLogger(PipelineResumeService.class);
+
+	@Autowired
+	public PipelineResumeService(JdbcChannelMessageStore gameRouterMessageStore, JdbcMessageStore gameAggregatorMessageStore) {
+		this.gameRouterMessageStore = gameRouterMessageStore;
+		this.gameAggregatorMessageStore = gameAggregatorMessageStore;
+	}
+
+	public int getPendingCount() {
+		return gameRouterMessageStore.messageGroupSize("gameRouterChannel") + gameAggregatorMessageStore.getMessageCountForAllMessageGroups();
+	}
+
+	public boolean awaitDrained(long timeoutSeconds) {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+		int pending = getPendingCount();
+		logger.info("resume: pendingCount: " + pending);
+		while (pending > 0) {
+			if (System.nanoTime() > deadline) {
+				logger.info("resume: timed out with pendingCount: " + pending);
+				return false;
+			}
+			try {
+				TimeUnit.SECONDS.sleep(1);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+			pending = getPendingCount();
+		}
+		logger.info("resume: all pending messages processed");
+		return true;
+	}
+}
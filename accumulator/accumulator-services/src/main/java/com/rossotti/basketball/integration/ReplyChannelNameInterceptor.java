@@ -0,0 +1,37 @@
+package com.rossotti.basketball.integration;
+
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.integration.support.channel.HeaderChannelRegistry;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.ChannelInterceptor;
+
+/**
+ * Replaces replyChannel and errorChannel header objects with registry names so messages
+ * written to a persistent message store can still be answered back to GatewayService.
+ */
+public class ReplyChannelNameInterceptor implements ChannelInterceptor {
+	private final HeaderChannelRegistry headerChannelRegistry;
+
+	public ReplyChannelNameInterceptor(HeaderChannelRegistry headerChannelRegistry) {
+		this.headerChannelRegistry = headerChannelRegistry;
+	}
+
+	@Override
+	public Message<?> preSend(Message<?> message, MessageChannel channel) {
+		Object replyChannel = message.getHeaders().get(MessageHeaders.REPLY_CHANNEL);
+		Object errorChannel = message.getHeaders().get(MessageHeaders.ERROR_CHANNEL);
+		if (!(replyChannel instanceof MessageChannel) && !(errorChannel instanceof MessageChannel)) {
+			return message;
+		}
+		MessageBuilder<?> builder = MessageBuilder.fromMessage(message);
+		if (replyChannel instanceof MessageChannel) {
+			builder.setHeader(MessageHeaders.REPLY_CHANNEL, headerChannelRegistry.channelToChannelName(replyChannel));
+		}
+		if (errorChannel instanceof MessageChannel) {
+			builder.setHeader(MessageHeaders.ERROR_CHANNEL, headerChannelRegistry.channelToChannelName(errorChannel));
+		}
+		return builder.build();
+	}
+}
@@ -0,0 +1,21 @@
+package com.rossotti.basketball.integration;
+
+import com.rossotti.basketball.jpa.model.Game;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.integration.annotation.ServiceActivator;
+
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(name = "accumulator.pipeline.resume", havingValue = "true")
+public class ResumeOutputActivator {
+	private final Logger logger = LoggerFactory.getLogger(ResumeOutputActivator.class);
+
+	@ServiceActivator(inputChannel = "outputChannel")
+	public void completeGames(List<Game> games) {
+		logger.info("resume: gameCount: " + games.size() + " completed from message store");
+	}
+}
@@ -11,16 +11,19 @@ import org.springframework.integration.annotation.ServiceActivator;
 @Configuration
 public class RosterPlayerLoaderActivator {
 	private final RosterPlayerBusService rosterPlayerBusService;
+	private final PipelineMetrics pipelineMetrics;
 	private final Logger logger = LoggerFactory.getLogger(RosterPlayerLoaderActivator.class);
 
 	@Autowired
-	public RosterPlayerLoaderActivator(RosterPlayerBusService rosterPlayerBusService) {
+	public RosterPlayerLoaderActivator(RosterPlayerBusService rosterPlayerBusService, PipelineMetrics pipelineMetrics) {
 		this.rosterPlayerBusService = rosterPlayerBusService;
+		this.pipelineMetrics = pipelineMetrics;
 	}
 
 	@ServiceActivator(inputChannel = "rosterLoadChannel", outputChannel = "gameRouterChannel")
-	public GameBusiness loadRoster(GameBusiness gameBusiness) {
-		gameBusiness = rosterPlayerBusService.loadRoster(gameBusiness);
+	public GameBusiness loadRoster(GameBusiness input) {
+		GameBusiness gameBusiness = pipelineMetrics.time("rosterLoader", () -> rosterPlayerBusService.loadRoster(input));
+		pipelineMetrics.count("rosterLoader", gameBusiness.getStatusCode());
 		logger.info("rosterPlayerLoader: " + gameBusiness.getStatusCode() + " : route to gameRouterChannel");
 		return gameBusiness;
 	}
@@ -15,16 +15,18 @@ import java.util.List;
 @Configuration
 public class StandingsRankerActivator {
 	private final StandingBusService standingBusService;
+	private final PipelineMetrics pipelineMetrics;
 	private final Logger logger = LoggerFactory.getLogger(StandingsRankerActivator.class);
 
 	@Autowired
-	public StandingsRankerActivator(StandingBusService standingBusService) {
+	public StandingsRankerActivator(StandingBusService standingBusService, PipelineMetrics pipelineMetrics) {
 		this.standingBusService = standingBusService;
+		this.pipelineMetrics = pipelineMetrics;
 	}
 
 	@ServiceActivator(inputChannel = "standingsRankChannel", outputChannel = "outputChannel")
 	public List<Game> rankStandings(List<Game> games) {
-		StandingsBusiness standingBusiness = standingBusService.rankStandings(DateTimeConverter.getStringDate(games.get(0).getGameDateTime()));
+		StandingsBusiness standingBusiness = pipelineMetrics.time("standingsRanker", () -> standingBusService.rankStandings(DateTimeConverter.getStringDate(games.get(0).getGameDateTime())));
 		int result = 0;
 		if (null != standingBusiness.getStandings() ) {
 			result = standingBusiness.getStandings().size();
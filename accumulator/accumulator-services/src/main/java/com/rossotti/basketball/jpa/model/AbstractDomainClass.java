@@ -1,12 +1,24 @@
 package com.rossotti.basketball.jpa.model;
 
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
 import javax.persistence.*;
 
 @MappedSuperclass
 public class AbstractDomainClass implements ModelObject {
 
+    // pooled ids, one idSequence row per entity table, so inserts can be sent as jdbc batches
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "idSequence")
+    @GenericGenerator(name = "idSequence", strategy = "org.hibernate.id.enhanced.TableGenerator", parameters = {
+        @Parameter(name = "table_name", value = "idSequence"),
+        @Parameter(name = "segment_column_name", value = "sequenceName"),
+        @Parameter(name = "value_column_name", value = "nextValue"),
+        @Parameter(name = "prefer_entity_table_as_segment_value", value = "true"),
+        @Parameter(name = "increment_size", value = "50"),
+        @Parameter(name = "optimizer", value = "pooled-lo")
+    })
     Long id;
 
     @Override
@@ -7,7 +7,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name="boxScore")
+@Table(name="boxScore", indexes={@Index(name="idx_boxScore_gameId_teamId", columnList="gameId, teamId"), @Index(name="idx_boxScore_teamId", columnList="teamId")})
 public class BoxScore extends AbstractDomainClass {
 
 	public BoxScore() {}
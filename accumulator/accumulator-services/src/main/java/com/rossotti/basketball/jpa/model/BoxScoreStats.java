@@ -1,8 +1,9 @@
 package com.rossotti.basketball.jpa.model;
 
 import javax.persistence.Column;
+import java.io.Serializable;
 
-public class BoxScoreStats {
+public class BoxScoreStats implements Serializable {
 
 	@Column(name="minutes")
 	private Short minutes;
@@ -6,7 +6,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name="game")
+@Table(name="game", indexes=@Index(name="idx_game_gameDateTime_status", columnList="gameDateTime, status"))
 public class Game extends AbstractDomainClass {
 
 	public Game() {
@@ -0,0 +1,90 @@
+package com.rossotti.basketball.jpa.model;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+
+@Entity
+@Table(name="headToHead", uniqueConstraints=@UniqueConstraint(columnNames={"seasonDate", "gameDate", "teamKey", "opptTeamKey"}))
+public class HeadToHead extends AbstractDomainClass {
+
+	public HeadToHead() {
+		setStatusCode(StatusCodeDAO.Found);
+	}
+
+	public HeadToHead(StatusCodeDAO statusCode) {
+		setStatusCode(statusCode);
+	}
+
+	//season totals summed over game dates by the repository
+	public HeadToHead(String teamKey, String opptTeamKey, Long gamesWon, Long gamesPlayed) {
+		setStatusCode(StatusCodeDAO.Found);
+		this.teamKey = teamKey;
+		this.opptTeamKey = opptTeamKey;
+		this.gamesWon = gamesWon.shortValue();
+		this.gamesPlayed = gamesPlayed.shortValue();
+	}
+
+	@Column(name="seasonDate", nullable=false)
+	private LocalDate seasonDate;
+	public LocalDate getSeasonDate() {
+		return seasonDate;
+	}
+	public void setSeasonDate(LocalDate seasonDate) {
+		this.seasonDate = seasonDate;
+	}
+
+	@Column(name="gameDate", nullable=false)
+	private LocalDate gameDate;
+	public LocalDate getGameDate() {
+		return gameDate;
+	}
+	public void setGameDate(LocalDate gameDate) {
+		this.gameDate = gameDate;
+	}
+
+	@Column(name="teamKey", length=35, nullable=false)
+	private String teamKey;
+	public String getTeamKey() {
+		return teamKey;
+	}
+	public void setTeamKey(String teamKey) {
+		this.teamKey = teamKey;
+	}
+
+	@Column(name="opptTeamKey", length=35, nullable=false)
+	private String opptTeamKey;
+	public String getOpptTeamKey() {
+		return opptTeamKey;
+	}
+	public void setOpptTeamKey(String opptTeamKey) {
+		this.opptTeamKey = opptTeamKey;
+	}
+
+	@Column(name="gamesPlayed", nullable=false)
+	private Short gamesPlayed;
+	public Short getGamesPlayed() {
+		return gamesPlayed;
+	}
+	public void setGamesPlayed(Short gamesPlayed) {
+		this.gamesPlayed = gamesPlayed;
+	}
+
+	@Column(name="gamesWon", nullable=false)
+	private Short gamesWon;
+	public Short getGamesWon() {
+		return gamesWon;
+	}
+	public void setGamesWon(Short gamesWon) {
+		this.gamesWon = gamesWon;
+	}
+
+	public String toString() {
+		return ("\r" + "  id: " + this.id + "\n") +
+				"  seasonDate: " + this.seasonDate + "\n" +
+				"  gameDate: " + this.gameDate + "\n" +
+				"  teamKey: " + this.teamKey + "\n" +
+				"  opptTeamKey: " + this.opptTeamKey + "\n" +
+				"  gamesPlayed: " + this.gamesPlayed + "\n" +
+				"  gamesWon: " + this.gamesWon + "\n";
+	}
+}
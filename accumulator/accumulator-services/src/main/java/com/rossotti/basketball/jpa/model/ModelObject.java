@@ -1,7 +1,9 @@
 package com.rossotti.basketball.jpa.model;
 
+import java.io.Serializable;
+
 @SuppressWarnings("WeakerAccess")
-public interface ModelObject {
+public interface ModelObject extends Serializable {
     Long getId();
     void setId(Long id);
 }
\ No newline at end of file
@@ -6,7 +6,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name="rosterPlayer", uniqueConstraints=@UniqueConstraint(columnNames={"playerId", "teamId", "fromDate", "toDate"}))
+@Table(name="rosterPlayer", uniqueConstraints=@UniqueConstraint(columnNames={"playerId", "teamId", "fromDate", "toDate"}),
+	indexes=@Index(name="idx_rosterPlayer_teamId_fromDate_toDate", columnList="teamId, fromDate, toDate"))
 public class RosterPlayer extends AbstractDomainClass {
 
 	public RosterPlayer() {
@@ -4,7 +4,8 @@ import javax.persistence.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name="standing", uniqueConstraints=@UniqueConstraint(columnNames={"teamId", "standingDate"}))
+@Table(name="standing", uniqueConstraints=@UniqueConstraint(columnNames={"teamId", "standingDate"}),
+	indexes=@Index(name="idx_standing_standingDate", columnList="standingDate"))
 public class Standing extends AbstractDomainClass {
 
 	public Standing() {
@@ -1,12 +1,18 @@
 package com.rossotti.basketball.jpa.model;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import javax.persistence.*;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name="team", uniqueConstraints=@UniqueConstraint(columnNames={"teamKey", "fromDate", "toDate"}))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name="team", uniqueConstraints=@UniqueConstraint(columnNames={"teamKey", "fromDate", "toDate"}),
+	indexes={@Index(name="idx_team_lastName_fromDate_toDate", columnList="lastName, fromDate, toDate"), @Index(name="idx_team_fromDate_toDate", columnList="fromDate, toDate")})
 public class Team extends AbstractDomainClass {
 
 	public Team() {
@@ -14,14 +14,16 @@ public interface GameRepository extends Repository<Game, Long> {
 
 	Game findById(Long id);
 
-	void save(Game player);
+	Game save(Game game);
 
 	void deleteById(Long id);
 
 	String findByTeamKeyAndFromDateAndToDate =
-			"select g from Game g " +
-			"inner join g.boxScores bs " +
-			"inner join bs.team t " +
+			"select distinct g from Game g " +
+			"inner join fetch g.boxScores bs " +
+			"inner join fetch bs.team " +
+			"inner join g.boxScores tbs " +
+			"inner join tbs.team t " +
 			"where g.gameDateTime >= :fromDateTime " +
 			"and g.gameDateTime <= :toDateTime " +
 			"and t.teamKey = :teamKey";
@@ -30,9 +32,11 @@ public interface GameRepository extends Repository<Game, Long> {
     Game findByTeamKeyAndFromDateAndToDate(@Param("teamKey") String teamKey, @Param("fromDateTime") LocalDateTime fromDateTime, @Param("toDateTime") LocalDateTime toDateTime);
 
 	String findByTeamKeyAndFromDateAndToDateSeason =
-			"select g from Game g " +
-			"left join g.boxScores bs " +
-			"inner join bs.team t " +
+			"select distinct g from Game g " +
+			"inner join fetch g.boxScores bs " +
+			"inner join fetch bs.team " +
+			"inner join g.boxScores tbs " +
+			"inner join tbs.team t " +
 			"where g.gameDateTime >= :fromDateTime " +
 			"and g.gameDateTime <= :toDateTime " +
 			"and (g.status = 'Completed' " +
@@ -44,10 +48,12 @@ public interface GameRepository extends Repository<Game, Long> {
 	List<Game> findByTeamKeyAndFromDateAndToDateSeason(@Param("teamKey") String teamKey, @Param("fromDateTime") LocalDateTime fromDateTime, @Param("toDateTime") LocalDateTime toDateTime);
 
 	String findByFromDateAndToDate =
-			"select g from Game g " +
-			"where gameDateTime >= :fromDateTime " +
-			"and gameDateTime <= :toDateTime " +
-			"order by status desc, gameDateTime asc";
+			"select distinct g from Game g " +
+			"left join fetch g.boxScores bs " +
+			"left join fetch bs.team " +
+			"where g.gameDateTime >= :fromDateTime " +
+			"and g.gameDateTime <= :toDateTime " +
+			"order by g.status desc, g.gameDateTime asc";
 
 	@Query(findByFromDateAndToDate)
 	List<Game> findByFromDateAndToDate(@Param("fromDateTime") LocalDateTime fromDateTime, @Param("toDateTime") LocalDateTime toDateTime);
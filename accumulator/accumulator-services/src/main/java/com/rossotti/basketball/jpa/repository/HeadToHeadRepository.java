@@ -0,0 +1,50 @@
+package com.rossotti.basketball.jpa.repository;
+
+import com.rossotti.basketball.jpa.model.HeadToHead;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface HeadToHeadRepository extends Repository<HeadToHead, Long> {
+
+	HeadToHead findBySeasonDateAndGameDateAndTeamKeyAndOpptTeamKey(LocalDate seasonDate, LocalDate gameDate, String teamKey, String opptTeamKey);
+
+	String findBySeasonDateThroughGameDate =
+			"select new com.rossotti.basketball.jpa.model.HeadToHead(h.teamKey, h.opptTeamKey, sum(h.gamesWon), sum(h.gamesPlayed)) " +
+			"from HeadToHead h " +
+			"where h.seasonDate = :seasonDate " +
+			"and h.gameDate <= :gameDate " +
+			"group by h.teamKey, h.opptTeamKey";
+
+	@Query(findBySeasonDateThroughGameDate)
+	List<HeadToHead> findBySeasonDateThroughGameDate(@Param("seasonDate") LocalDate seasonDate, @Param("gameDate") LocalDate gameDate);
+
+	void save(HeadToHead headToHead);
+
+	String incrementGames =
+			"update HeadToHead h " +
+			"set h.gamesPlayed = h.gamesPlayed + 1, h.gamesWon = h.gamesWon + :won " +
+			"where h.seasonDate = :seasonDate " +
+			"and h.gameDate = :gameDate " +
+			"and h.teamKey = :teamKey " +
+			"and h.opptTeamKey = :opptTeamKey";
+
+	@Modifying
+	@Transactional
+	@Query(incrementGames)
+	int incrementGames(@Param("seasonDate") LocalDate seasonDate, @Param("gameDate") LocalDate gameDate, @Param("teamKey") String teamKey, @Param("opptTeamKey") String opptTeamKey, @Param("won") Short won);
+
+	String deleteBySeasonDate =
+			"delete from HeadToHead " +
+			"where seasonDate = :seasonDate";
+
+	@Modifying
+	@Transactional
+	@Query(deleteBySeasonDate)
+	int deleteBySeasonDate(@Param("seasonDate") LocalDate seasonDate);
+}
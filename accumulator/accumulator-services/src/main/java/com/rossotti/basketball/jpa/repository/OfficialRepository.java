@@ -2,12 +2,17 @@ package com.rossotti.basketball.jpa.repository;
 
 import com.rossotti.basketball.jpa.model.Official;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
 import java.time.LocalDate;
 import java.util.List;
 
+import static org.hibernate.annotations.QueryHints.CACHEABLE;
+import static org.hibernate.annotations.QueryHints.CACHE_REGION;
+
 public interface OfficialRepository extends Repository<Official, Long> {
 
 	List<Official> findAll();
@@ -26,6 +31,7 @@ public interface OfficialRepository extends Repository<Official, Long> {
 			"and toDate >= :toDate";
 
 	@Query(findByLastNameAndFirstNameAndFromDateAndToDate)
+	@QueryHints({@QueryHint(name = CACHEABLE, value = "true"), @QueryHint(name = CACHE_REGION, value = "official-finders")})
     Official findByLastNameAndFirstNameAndFromDateAndToDate(@Param("lastName") String lastName, @Param("firstName") String firstName, @Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
 
 	String findByFromDateAndToDate =
@@ -34,5 +40,6 @@ public interface OfficialRepository extends Repository<Official, Long> {
 			"and toDate >= :toDate";
 
 	@Query(findByFromDateAndToDate)
+	@QueryHints({@QueryHint(name = CACHEABLE, value = "true"), @QueryHint(name = CACHE_REGION, value = "official-finders")})
 	List<Official> findByFromDateAndToDate(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
 }
\ No newline at end of file
@@ -20,7 +20,8 @@ public interface RosterPlayerRepository extends Repository<RosterPlayer, Long> {
 
 	String findByTeamKeyAndAsOfDate =
 			"select rp from RosterPlayer rp " +
-			"inner join rp.team t " +
+			"inner join fetch rp.player p " +
+			"inner join fetch rp.team t " +
 			"where t.teamKey = :teamKey " +
 			"and rp.fromDate <= :asOfDate " +
 			"and rp.toDate >= :asOfDate";
@@ -1,9 +1,11 @@
 package com.rossotti.basketball.jpa.repository;
 
 import com.rossotti.basketball.jpa.model.Standing;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -36,4 +38,23 @@ public interface StandingRepository extends Repository<Standing, Long> {
 
 	@Query(findByTeamKeyAndStandingDate)
     Standing findByTeamKeyAndStandingDate(@Param("teamKey") String teamKey, @Param("asOfDate") LocalDate asOfDate);
-}
\ No newline at end of file
+
+	String findStandingDates =
+			"select distinct s.standingDate from Standing s " +
+			"where s.standingDate >= :fromDate " +
+			"and s.standingDate <= :toDate " +
+			"order by s.standingDate";
+
+	@Query(findStandingDates)
+	List<LocalDate> findStandingDates(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+	String deleteByFromDateAndToDate =
+			"delete from Standing s " +
+			"where s.standingDate >= :fromDate " +
+			"and s.standingDate <= :toDate";
+
+	@Modifying
+	@Transactional
+	@Query(deleteByFromDateAndToDate)
+	int deleteByFromDateAndToDate(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+}
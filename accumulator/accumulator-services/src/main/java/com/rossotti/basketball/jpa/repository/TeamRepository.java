@@ -2,12 +2,17 @@ package com.rossotti.basketball.jpa.repository;
 
 import com.rossotti.basketball.jpa.model.Team;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
 import java.time.LocalDate;
 import java.util.List;
 
+import static org.hibernate.annotations.QueryHints.CACHEABLE;
+import static org.hibernate.annotations.QueryHints.CACHE_REGION;
+
 public interface TeamRepository extends Repository<Team, Long> {
 
 	List<Team> findAll();
@@ -25,6 +30,7 @@ public interface TeamRepository extends Repository<Team, Long> {
 			"and toDate >= :toDate";
 
 	@Query(findByTeamKeyAndFromDateAndToDate)
+	@QueryHints({@QueryHint(name = CACHEABLE, value = "true"), @QueryHint(name = CACHE_REGION, value = "team-finders")})
     Team findByTeamKeyAndFromDateAndToDate(@Param("teamKey") String teamKey, @Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
 
 	String findByLastNameAndFromDateAndToDate =
@@ -34,6 +40,7 @@ public interface TeamRepository extends Repository<Team, Long> {
 			"and toDate >= :toDate";
 
 	@Query(findByLastNameAndFromDateAndToDate)
+	@QueryHints({@QueryHint(name = CACHEABLE, value = "true"), @QueryHint(name = CACHE_REGION, value = "team-finders")})
     Team findByLastNameAndFromDateAndToDate(@Param("lastName") String lastName, @Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
 
 	List<Team> findByTeamKey(String teamKey);
@@ -44,5 +51,6 @@ public interface TeamRepository extends Repository<Team, Long> {
 			"and toDate >= :toDate";
 
 	@Query(findByFromDateAndToDate)
+	@QueryHints({@QueryHint(name = CACHEABLE, value = "true"), @QueryHint(name = CACHE_REGION, value = "team-finders")})
 	List<Team> findByFromDateAndToDate(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
 }
\ No newline at end of file
@@ -14,4 +14,6 @@ public interface GameJpaService extends CrudService<Game> {
 	List<Game> findByAsOfDate(LocalDate asOfDate);
 	int findCountByAsOfDate(LocalDate asOfDate);
 	LocalDateTime findPreviousByTeamKeyAsOfDate(String teamKey, LocalDate asOfDate);
+	Game complete(Game game);
+	List<Game> findByDateRange(LocalDate fromDate, LocalDate toDate);
 }
\ No newline at end of file
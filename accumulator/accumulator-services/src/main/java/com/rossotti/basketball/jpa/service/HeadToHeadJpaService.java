@@ -0,0 +1,15 @@
+package com.rossotti.basketball.jpa.service;
+
+import com.rossotti.basketball.jpa.model.HeadToHead;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Service
+public interface HeadToHeadJpaService {
+	List<HeadToHead> findBySeasonThroughDate(LocalDate asOfDate);
+	HeadToHead recordGame(LocalDate gameDate, String teamKey, String opptTeamKey, boolean won);
+	HeadToHead create(HeadToHead headToHead);
+	void deleteBySeason(LocalDate asOfDate);
+}
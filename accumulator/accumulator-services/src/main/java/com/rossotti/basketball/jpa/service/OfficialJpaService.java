@@ -10,4 +10,5 @@ import java.util.List;
 public interface OfficialJpaService extends CrudService<Official> {
 	Official findByLastNameAndFirstNameAndAsOfDate(String lastName, String firstName, LocalDate asOfDate);
 	List<Official> findByAsOfDate(LocalDate asOfDate);
+	List<Official> findByDateRange(LocalDate fromDate, LocalDate toDate);
 }
\ No newline at end of file
@@ -11,4 +11,7 @@ public interface StandingJpaService extends CrudService<Standing> {
 	List<Standing> findByTeamKey(String teamKey);
 	List<Standing> findByAsOfDate(LocalDate asOfDate);
 	Standing findByTeamKeyAndAsOfDate(String teamKey, LocalDate asOfDate);
+	List<LocalDate> findStandingDates(LocalDate fromDate, LocalDate toDate);
+	List<Standing> createAll(List<Standing> standings);
+	int deleteByDateRange(LocalDate fromDate, LocalDate toDate);
 }
\ No newline at end of file
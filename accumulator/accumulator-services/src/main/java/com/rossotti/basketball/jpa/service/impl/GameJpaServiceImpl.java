@@ -48,6 +48,11 @@ public class GameJpaServiceImpl implements GameJpaService {
 		return gameRepository.findByFromDateAndToDate(DateTimeConverter.getLocalDateTimeMin(asOfDate), DateTimeConverter.getLocalDateTimeMax(asOfDate));
 	}
 
+	@Override
+	public List<Game> findByDateRange(LocalDate fromDate, LocalDate toDate) {
+		return gameRepository.findByFromDateAndToDate(DateTimeConverter.getLocalDateTimeMin(fromDate), DateTimeConverter.getLocalDateTimeMax(toDate));
+	}
+
 	@Override
 	public int findCountByAsOfDate(LocalDate asOfDate) {
 		return gameRepository.findCountByFromDateAndToDate(DateTimeConverter.getLocalDateTimeMin(asOfDate), DateTimeConverter.getLocalDateTimeMax(asOfDate));
@@ -178,6 +183,23 @@ public class GameJpaServiceImpl implements GameJpaService {
 		return findGame;
 	}
 
+	//completeGame is the instance managed by the caller's unit of work, its scored graph is written when that unit commits
+	@Override
+	public Game complete(Game completeGame) {
+		if (completeGame.getId() == null) {
+			return new Game(StatusCodeDAO.NotFound);
+		}
+		Game game = gameRepository.findById(completeGame.getId());
+		if (game == null) {
+			return new Game(StatusCodeDAO.NotFound);
+		}
+		if (game != completeGame) {
+			throw new IllegalStateException("Game " + completeGame.getId() + " not managed by the current transaction");
+		}
+		game.setStatusCode(StatusCodeDAO.Updated);
+		return game;
+	}
+
 	@Override
 	public Game delete(Long id) {
 		Game findGame = getById(id);
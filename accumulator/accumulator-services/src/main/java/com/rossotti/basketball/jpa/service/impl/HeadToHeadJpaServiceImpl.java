@@ -0,0 +1,61 @@
+package com.rossotti.basketball.jpa.service.impl;
+
+import com.rossotti.basketball.jpa.model.AbstractDomainClass.StatusCodeDAO;
+import com.rossotti.basketball.jpa.model.HeadToHead;
+import com.rossotti.basketball.jpa.repository.HeadToHeadRepository;
+import com.rossotti.basketball.jpa.service.HeadToHeadJpaService;
+import com.rossotti.basketball.util.DateTimeConverter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Service
+public class HeadToHeadJpaServiceImpl implements HeadToHeadJpaService {
+
+	private HeadToHeadRepository headToHeadRepository;
+
+	@Autowired
+	public void setHeadToHeadRepository(HeadToHeadRepository headToHeadRepository) {
+		this.headToHeadRepository = headToHeadRepository;
+	}
+
+	@Override
+	public List<HeadToHead> findBySeasonThroughDate(LocalDate asOfDate) {
+		return headToHeadRepository.findBySeasonDateThroughGameDate(DateTimeConverter.getLocalDateSeasonMin(asOfDate), asOfDate);
+	}
+
+	@Override
+	public HeadToHead recordGame(LocalDate gameDate, String teamKey, String opptTeamKey, boolean won) {
+		LocalDate seasonDate = DateTimeConverter.getLocalDateSeasonMin(gameDate);
+		Short gameWon = (short) (won ? 1 : 0);
+		//incremented in the database, concurrent games for the same pair cannot lose an update
+		if (headToHeadRepository.incrementGames(seasonDate, gameDate, teamKey, opptTeamKey, gameWon) > 0) {
+			HeadToHead headToHead = headToHeadRepository.findBySeasonDateAndGameDateAndTeamKeyAndOpptTeamKey(seasonDate, gameDate, teamKey, opptTeamKey);
+			headToHead.setStatusCode(StatusCodeDAO.Updated);
+			return headToHead;
+		}
+		HeadToHead headToHead = new HeadToHead(StatusCodeDAO.Created);
+		headToHead.setSeasonDate(seasonDate);
+		headToHead.setGameDate(gameDate);
+		headToHead.setTeamKey(teamKey);
+		headToHead.setOpptTeamKey(opptTeamKey);
+		headToHead.setGamesPlayed((short) 1);
+		headToHead.setGamesWon(gameWon);
+		headToHeadRepository.save(headToHead);
+		return headToHead;
+	}
+
+	@Override
+	public HeadToHead create(HeadToHead headToHead) {
+		headToHeadRepository.save(headToHead);
+		headToHead.setStatusCode(StatusCodeDAO.Created);
+		return headToHead;
+	}
+
+	@Override
+	public void deleteBySeason(LocalDate asOfDate) {
+		headToHeadRepository.deleteBySeasonDate(DateTimeConverter.getLocalDateSeasonMin(asOfDate));
+	}
+}
@@ -38,6 +38,12 @@ public class OfficialJpaServiceImpl implements OfficialJpaService {
 		return officialRepository.findByFromDateAndToDate(asOfDate, asOfDate);
 	}
 
+	@Override
+	public List<Official> findByDateRange(LocalDate fromDate, LocalDate toDate) {
+		// officials valid on any day between fromDate and toDate
+		return officialRepository.findByFromDateAndToDate(toDate, fromDate);
+	}
+
 	@Override
 	public List<?> listAll() {
 		return new ArrayList<>(officialRepository.findAll());
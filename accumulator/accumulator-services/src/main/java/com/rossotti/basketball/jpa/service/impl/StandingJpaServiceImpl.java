@@ -66,6 +66,25 @@ public class StandingJpaServiceImpl implements StandingJpaService {
 		}
 	}
 
+	@Override
+	public List<Standing> createAll(List<Standing> standings) {
+		for (Standing standing : standings) {
+			standingRepository.save(standing);
+			standing.setStatusCode(StatusCodeDAO.Created);
+		}
+		return standings;
+	}
+
+	@Override
+	public List<LocalDate> findStandingDates(LocalDate fromDate, LocalDate toDate) {
+		return standingRepository.findStandingDates(fromDate, toDate);
+	}
+
+	@Override
+	public int deleteByDateRange(LocalDate fromDate, LocalDate toDate) {
+		return standingRepository.deleteByFromDateAndToDate(fromDate, toDate);
+	}
+
 	@Override
 	public Standing update(Standing updateStanding) {
 		Standing standing = findByTeamKeyAndAsOfDate(updateStanding.getTeam().getTeamKey(), updateStanding.getStandingDate());
@@ -4,23 +4,41 @@ import com.rossotti.basketball.jpa.model.AbstractDomainClass.StatusCodeDAO;
 import com.rossotti.basketball.jpa.model.Team;
 import com.rossotti.basketball.jpa.repository.TeamRepository;
 import com.rossotti.basketball.jpa.service.TeamJpaService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PostConstruct;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class TeamJpaServiceImpl implements TeamJpaService {
 
 	private TeamRepository teamRepository;
 
+	// immutable snapshot of all teams, replaced whenever teams are written or a team is loaded on a miss
+	// lookups are served copies, the snapshot's own instances are never handed out
+	private volatile TeamSnapshot teamSnapshot = new TeamSnapshot(new ArrayList<>());
+
+	private final Logger logger = LoggerFactory.getLogger(TeamJpaServiceImpl.class);
+
 	@Autowired
 	public void setTeamRepository(TeamRepository teamRepository) {
 		this.teamRepository = teamRepository;
 	}
 
+	@PostConstruct
+	public void refresh() {
+		List<Team> teams = teamRepository.findAll();
+		teamSnapshot = new TeamSnapshot(teams);
+		logger.info("Team snapshot loaded: " + teams.size() + " teams");
+	}
+
 	@Override
 	public List<Team> findByTeamKey(String teamKey) {
 		return teamRepository.findByTeamKey(teamKey);
@@ -33,19 +51,39 @@ public class TeamJpaServiceImpl implements TeamJpaService {
 
 	@Override
 	public Team findByTeamKeyAndAsOfDate(String teamKey, LocalDate asOfDate) {
-		Team team = teamRepository.findByTeamKeyAndFromDateAndToDate(teamKey, asOfDate, asOfDate);
-		if (team != null) {
-			team.setStatusCode(StatusCodeDAO.Found);
-		}
-		else {
-			team = new Team(StatusCodeDAO.NotFound);
+		Team team = TeamSnapshot.find(teamSnapshot.byTeamKey.get(teamKey), asOfDate);
+		if (team == null) {
+			team = findByTeamKeyAndAsOfDateUncached(teamKey, asOfDate);
+			if (team.isFound()) {
+				addToSnapshot(team);
+			}
 		}
 		return team;
 	}
 
 	@Override
 	public Team findByLastNameAndAsOfDate(String lastName, LocalDate asOfDate) {
-		Team team = teamRepository.findByLastNameAndFromDateAndToDate(lastName, asOfDate, asOfDate);
+		Team team = TeamSnapshot.find(teamSnapshot.byLastName.get(lastName), asOfDate);
+		if (team == null) {
+			team = teamRepository.findByLastNameAndFromDateAndToDate(lastName, asOfDate, asOfDate);
+			if (team != null) {
+				team.setStatusCode(StatusCodeDAO.Found);
+				addToSnapshot(team);
+			}
+			else {
+				team = new Team(StatusCodeDAO.NotFound);
+			}
+		}
+		return team;
+	}
+
+	private synchronized void addToSnapshot(Team team) {
+		teamSnapshot = teamSnapshot.with(team);
+		logger.info("Team snapshot added: " + team.getTeamKey() + " from " + team.getFromDate());
+	}
+
+	private Team findByTeamKeyAndAsOfDateUncached(String teamKey, LocalDate asOfDate) {
+		Team team = teamRepository.findByTeamKeyAndFromDateAndToDate(teamKey, asOfDate, asOfDate);
 		if (team != null) {
 			team.setStatusCode(StatusCodeDAO.Found);
 		}
@@ -67,9 +105,10 @@ public class TeamJpaServiceImpl implements TeamJpaService {
 
 	@Override
 	public Team create(Team createTeam) {
-		Team team = findByTeamKeyAndAsOfDate(createTeam.getTeamKey(), createTeam.getFromDate());
+		Team team = findByTeamKeyAndAsOfDateUncached(createTeam.getTeamKey(), createTeam.getFromDate());
 		if (team.isNotFound()) {
 			teamRepository.save(createTeam);
+			refresh();
 			createTeam.setStatusCode(StatusCodeDAO.Created);
 			return createTeam;
 		}
@@ -80,7 +119,7 @@ public class TeamJpaServiceImpl implements TeamJpaService {
 
 	@Override
 	public Team update(Team updateTeam) {
-		Team team = findByTeamKeyAndAsOfDate(updateTeam.getTeamKey(), updateTeam.getFromDate());
+		Team team = findByTeamKeyAndAsOfDateUncached(updateTeam.getTeamKey(), updateTeam.getFromDate());
 		if (team.isFound()) {
 			team.setLastName(updateTeam.getLastName());
 			team.setFirstName(updateTeam.getFirstName());
@@ -94,6 +133,7 @@ public class TeamJpaServiceImpl implements TeamJpaService {
 			team.setState(updateTeam.getState());
 			team.setSiteName(updateTeam.getSiteName());
 			teamRepository.save(team);
+			refresh();
 			team.setStatusCode(StatusCodeDAO.Updated);
 		}
 		return team;
@@ -104,6 +144,7 @@ public class TeamJpaServiceImpl implements TeamJpaService {
 		Team findTeam = getById(id);
 		if (findTeam != null && findTeam.isFound()) {
 			teamRepository.deleteById(findTeam.getId());
+			refresh();
 			findTeam.setStatusCode(StatusCodeDAO.Deleted);
 			return findTeam;
 		}
@@ -111,4 +152,55 @@ public class TeamJpaServiceImpl implements TeamJpaService {
 			return new Team(StatusCodeDAO.NotFound);
 		}
 	}
+
+	private static class TeamSnapshot {
+		private final List<Team> teams = new ArrayList<>();
+		private final Map<String, List<Team>> byTeamKey = new HashMap<>();
+		private final Map<String, List<Team>> byLastName = new HashMap<>();
+
+		private TeamSnapshot(List<Team> teams) {
+			for (Team team : teams) {
+				Team snapshotTeam = copy(team);
+				this.teams.add(snapshotTeam);
+				byTeamKey.computeIfAbsent(snapshotTeam.getTeamKey(), key -> new ArrayList<>()).add(snapshotTeam);
+				byLastName.computeIfAbsent(snapshotTeam.getLastName(), key -> new ArrayList<>()).add(snapshotTeam);
+			}
+		}
+
+		private TeamSnapshot with(Team team) {
+			List<Team> teams = new ArrayList<>(this.teams);
+			teams.add(team);
+			return new TeamSnapshot(teams);
+		}
+
+		private static Team find(List<Team> teams, LocalDate asOfDate) {
+			if (teams != null) {
+				for (Team team : teams) {
+					if (!team.getFromDate().isAfter(asOfDate) && !team.getToDate().isBefore(asOfDate)) {
+						return copy(team);
+					}
+				}
+			}
+			return null;
+		}
+
+		// detached copy by id, callers attach it to new standings and box scores without sharing the instance
+		private static Team copy(Team team) {
+			Team copy = new Team(StatusCodeDAO.Found);
+			copy.setId(team.getId());
+			copy.setTeamKey(team.getTeamKey());
+			copy.setFromDate(team.getFromDate());
+			copy.setToDate(team.getToDate());
+			copy.setFirstName(team.getFirstName());
+			copy.setLastName(team.getLastName());
+			copy.setFullName(team.getFullName());
+			copy.setAbbr(team.getAbbr());
+			copy.setConference(team.getConference());
+			copy.setDivision(team.getDivision());
+			copy.setSiteName(team.getSiteName());
+			copy.setCity(team.getCity());
+			copy.setState(team.getState());
+			return copy;
+		}
+	}
 }
\ No newline at end of file
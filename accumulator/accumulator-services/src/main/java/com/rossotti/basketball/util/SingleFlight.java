@@ -0,0 +1,101 @@
+package com.rossotti.basketball.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Runs at most one call per key at a time. Callers arriving while a call is in flight wait for
+ * and share its result. Results accepted by the reusable predicate are kept for reuseMillis,
+ * expired results are evicted by later calls for any key.
+ */
+public class SingleFlight<K, V> {
+	private final ConcurrentMap<K, Flight<V>> flights = new ConcurrentHashMap<>();
+	private final long reuseMillis;
+	private final Predicate<V> reusable;
+	private volatile long nextEviction;
+
+	public SingleFlight(long reuseMillis, Predicate<V> reusable) {
+		this.reuseMillis = reuseMillis;
+		this.reusable = reusable;
+	}
+
+	public V execute(K key, Supplier<V> supplier) {
+		evictExpired(System.currentTimeMillis());
+		while (true) {
+			Flight<V> flight = new Flight<>();
+			Flight<V> existing = flights.putIfAbsent(key, flight);
+			if (existing == null) {
+				return run(key, flight, supplier);
+			}
+			if (existing.isExpired(System.currentTimeMillis())) {
+				flights.remove(key, existing);
+				continue;
+			}
+			try {
+				return existing.future.join();
+			}
+			catch (CompletionException ce) {
+				if (ce.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) ce.getCause();
+				}
+				if (ce.getCause() instanceof Error) {
+					throw (Error) ce.getCause();
+				}
+				throw ce;
+			}
+		}
+	}
+
+	public void invalidate(K key) {
+		flights.remove(key);
+	}
+
+	int size() {
+		return flights.size();
+	}
+
+	private V run(K key, Flight<V> flight, Supplier<V> supplier) {
+		V result;
+		boolean reuse;
+		try {
+			result = supplier.get();
+			reuse = reuseMillis > 0 && reusable.test(result);
+		}
+		catch (Throwable t) {
+			//errors too, otherwise waiting callers never return
+			flights.remove(key, flight);
+			flight.future.completeExceptionally(t);
+			throw t;
+		}
+		if (reuse) {
+			flight.expiresAt = System.currentTimeMillis() + reuseMillis;
+		}
+		else {
+			flights.remove(key, flight);
+		}
+		flight.future.complete(result);
+		return result;
+	}
+
+	//at most one sweep per reuseMillis, in flight calls never expire
+	private void evictExpired(long now) {
+		if (reuseMillis <= 0 || now < nextEviction) {
+			return;
+		}
+		nextEviction = now + reuseMillis;
+		flights.entrySet().removeIf(entry -> entry.getValue().isExpired(now));
+	}
+
+	private static class Flight<V> {
+		private final CompletableFuture<V> future = new CompletableFuture<>();
+		private volatile long expiresAt = Long.MAX_VALUE;
+
+		private boolean isExpired(long now) {
+			return now >= expiresAt;
+		}
+	}
+}
@@ -0,0 +1,17 @@
+-- id generator table for AbstractDomainClass, replaces auto_increment ids
+-- seeds each table with max(id) + 1 of the existing schema
+create table if not exists idSequence (
+  sequenceName varchar(255) not null,
+  nextValue bigint,
+  primary key (sequenceName)
+);
+
+insert into idSequence (sequenceName, nextValue) select 'team', coalesce(max(id), 0) + 1 from team;
+insert into idSequence (sequenceName, nextValue) select 'player', coalesce(max(id), 0) + 1 from player;
+insert into idSequence (sequenceName, nextValue) select 'rosterPlayer', coalesce(max(id), 0) + 1 from rosterPlayer;
+insert into idSequence (sequenceName, nextValue) select 'official', coalesce(max(id), 0) + 1 from official;
+insert into idSequence (sequenceName, nextValue) select 'game', coalesce(max(id), 0) + 1 from game;
+insert into idSequence (sequenceName, nextValue) select 'gameOfficial', coalesce(max(id), 0) + 1 from gameOfficial;
+insert into idSequence (sequenceName, nextValue) select 'boxScore', coalesce(max(id), 0) + 1 from boxScore;
+insert into idSequence (sequenceName, nextValue) select 'boxScorePlayer', coalesce(max(id), 0) + 1 from boxScorePlayer;
+insert into idSequence (sequenceName, nextValue) select 'standing', coalesce(max(id), 0) + 1 from standing;
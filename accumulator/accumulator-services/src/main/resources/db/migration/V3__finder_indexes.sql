@@ -0,0 +1,15 @@
+-- indexes backing the repository finders, names match the @Table indexes on the entities
+-- player (lastName, firstName, birthdate) and official (lastName, firstName, fromDate, toDate) are covered by their unique constraints
+create index idx_game_gameDateTime_status on game (gameDateTime, status);
+
+create index idx_boxScore_gameId_teamId on boxScore (gameId, teamId);
+create index idx_boxScore_teamId on boxScore (teamId);
+
+create index idx_rosterPlayer_teamId_fromDate_toDate on rosterPlayer (teamId, fromDate, toDate);
+
+create index idx_official_fromDate_toDate on official (fromDate, toDate);
+
+create index idx_team_lastName_fromDate_toDate on team (lastName, fromDate, toDate);
+create index idx_team_fromDate_toDate on team (fromDate, toDate);
+
+create index idx_standing_standingDate on standing (standingDate);
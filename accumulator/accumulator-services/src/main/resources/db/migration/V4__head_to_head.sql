@@ -0,0 +1,13 @@
+-- season head to head records per team and opponent, maintained as games complete
+create table headToHead (
+  id bigint not null,
+  seasonDate date not null,
+  teamKey varchar(35) not null,
+  opptTeamKey varchar(35) not null,
+  gamesPlayed smallint not null,
+  gamesWon smallint not null,
+  primary key (id),
+  constraint uk_headToHead_season_team_oppt unique (seasonDate, teamKey, opptTeamKey)
+);
+
+insert into idSequence (sequenceName, nextValue) values ('headToHead', 1);
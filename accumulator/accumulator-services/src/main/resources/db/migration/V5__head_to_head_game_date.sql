@@ -0,0 +1,7 @@
+-- head to head records per game date so any date of a season sums its own records
+-- existing season totals have no game date, they are removed and restored by rebuilding each season's standings
+delete from headToHead;
+
+alter table headToHead add column gameDate date not null after seasonDate;
+alter table headToHead drop index uk_headToHead_season_team_oppt;
+alter table headToHead add constraint uk_headToHead_season_game_team_oppt unique (seasonDate, gameDate, teamKey, opptTeamKey);
@@ -114,6 +114,14 @@ public class GameAppServiceTest {
 		Assert.assertTrue(game.isUpdated());
 	}
 
+	@Test
+	public void completeGame_updated() {
+		when(gameJpaService.complete(any()))
+			.thenReturn(createMockGame_StatusCode(StatusCodeDAO.Updated));
+		Game game = gameAppService.completeGame(createMockGame_Scheduled());
+		Assert.assertTrue(game.isUpdated());
+	}
+
 	@Test
 	public void createGame_found() {
 		when(gameJpaService.create(any()))
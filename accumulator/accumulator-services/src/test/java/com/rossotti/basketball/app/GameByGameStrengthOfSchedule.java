@@ -0,0 +1,107 @@
+package com.rossotti.basketball.app;
+
+import com.rossotti.basketball.app.model.StandingRecord;
+import com.rossotti.basketball.jpa.model.BoxScore;
+import com.rossotti.basketball.jpa.model.Game;
+import com.rossotti.basketball.jpa.model.Standing;
+import com.rossotti.basketball.jpa.service.GameJpaService;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Original game by game strength of schedule, querying each team's season games.
+ * Kept as the reference the head to head matrix is checked and benchmarked against.
+ */
+public class GameByGameStrengthOfSchedule {
+	private final GameJpaService gameJpaService;
+
+	public GameByGameStrengthOfSchedule(GameJpaService gameJpaService) {
+		this.gameJpaService = gameJpaService;
+	}
+
+	public Map<String, StandingRecord> calculateStrengthOfSchedule(List<Standing> standings, LocalDate asOfDate) {
+		Map<String, StandingRecord> strengthOfSchedule = new HashMap<>();
+		Map<String, StandingRecord> standingsMap = buildStandingsMap(standings, asOfDate);
+		for (Standing standing : standings) {
+			String teamKey = standing.getTeam().getTeamKey();
+			Map<String, StandingRecord> headToHeadMap = buildHeadToHeadMap(teamKey, asOfDate, standingsMap);
+			strengthOfSchedule.put(teamKey, calculateStrengthOfSchedule(teamKey, asOfDate, standingsMap, headToHeadMap));
+		}
+		return strengthOfSchedule;
+	}
+
+	public Map<String, StandingRecord> buildStandingsMap(List<Standing> standings, LocalDate asOfDate) {
+		Map<String, StandingRecord> standingsMap = new HashMap<>();
+		//create map with team games won/played
+		for (Standing standing1 : standings) {
+			StandingRecord standingRecord = new StandingRecord((int) standing1.getGamesWon(), (int) standing1.getGamesPlayed(), 0, 0);
+			standingsMap.put(standing1.getTeam().getTeamKey(), standingRecord);
+		}
+
+		//update map summing opponent games won/played
+		for (Standing standing : standings) {
+			String teamKey = standing.getTeam().getTeamKey();
+			Integer opptGamesWon = 0;
+			Integer opptGamesPlayed = 0;
+			List<Game> completeGames = gameJpaService.findByTeamKeyAndAsOfDateSeason(teamKey, asOfDate);
+			for (Game completedGame : completeGames) {
+				int opptBoxScoreId = completedGame.getBoxScores().get(0).getTeam().getTeamKey().equals(teamKey) ? 1 : 0;
+				String opptTeamKey = completedGame.getBoxScores().get(opptBoxScoreId).getTeam().getTeamKey();
+				opptGamesWon = opptGamesWon + standingsMap.get(opptTeamKey).getGamesWon();
+				opptGamesPlayed = opptGamesPlayed + standingsMap.get(opptTeamKey).getGamesPlayed();
+			}
+			standingsMap.get(teamKey).setOpptGamesWon(opptGamesWon);
+			standingsMap.get(teamKey).setOpptGamesPlayed(opptGamesPlayed);
+		}
+		return standingsMap;
+	}
+
+	public Map<String, StandingRecord> buildHeadToHeadMap(String teamKey, LocalDate asOfDate, Map<String, StandingRecord> standingsMap) {
+		Map<String, StandingRecord> headToHeadMap = new HashMap<>();
+		List<Game> completeGames = gameJpaService.findByTeamKeyAndAsOfDateSeason(teamKey, asOfDate);
+
+		for (Game completeGame : completeGames) {
+			int opptBoxScoreId = completeGame.getBoxScores().get(0).getTeam().getTeamKey().equals(teamKey) ? 1 : 0;
+			BoxScore opptBoxScore = completeGame.getBoxScores().get(opptBoxScoreId);
+			String opptTeamKey = opptBoxScore.getTeam().getTeamKey();
+			Integer opptHeadToHeadResult = opptBoxScore.getResult() != null && opptBoxScore.getResult().equals(BoxScore.Result.Win) ? 1 : 0;
+			if (headToHeadMap.get(opptTeamKey) == null) {
+				headToHeadMap.put(opptTeamKey, new StandingRecord(opptHeadToHeadResult, 1, standingsMap.get(teamKey).getGamesWon(), standingsMap.get(teamKey).getGamesPlayed()));
+			}
+			else {
+				headToHeadMap.get(opptTeamKey).setGamesWon(headToHeadMap.get(opptTeamKey).getGamesWon() + opptHeadToHeadResult);
+				headToHeadMap.get(opptTeamKey).setGamesPlayed(headToHeadMap.get(opptTeamKey).getGamesPlayed() + 1);
+				headToHeadMap.get(opptTeamKey).setOpptGamesWon(headToHeadMap.get(opptTeamKey).getOpptGamesWon() + standingsMap.get(teamKey).getGamesWon());
+				headToHeadMap.get(opptTeamKey).setOpptGamesPlayed(headToHeadMap.get(opptTeamKey).getOpptGamesPlayed() + standingsMap.get(teamKey).getGamesPlayed());
+			}
+		}
+		return headToHeadMap;
+	}
+
+	public StandingRecord calculateStrengthOfSchedule(String teamKey, LocalDate asOfDate, Map<String, StandingRecord> standingsMap, Map<String, StandingRecord> headToHeadMap) {
+		Integer opptGamesWon = 0;
+		Integer opptGamesPlayed = 0;
+		Integer opptOpptGamesWon = 0;
+		Integer opptOpptGamesPlayed = 0;
+		List<Game> completeGames = gameJpaService.findByTeamKeyAndAsOfDateSeason(teamKey, asOfDate);
+
+		for (Game completeGame : completeGames) {
+			int opptBoxScoreId = completeGame.getBoxScores().get(0).getTeam().getTeamKey().equals(teamKey) ? 1 : 0;
+			String opptTeamKey = completeGame.getBoxScores().get(opptBoxScoreId).getTeam().getTeamKey();
+
+			opptGamesWon = opptGamesWon + standingsMap.get(opptTeamKey).getGamesWon() - headToHeadMap.get(opptTeamKey).getGamesWon();
+			opptGamesPlayed = opptGamesPlayed + standingsMap.get(opptTeamKey).getGamesPlayed() - headToHeadMap.get(opptTeamKey).getGamesPlayed();
+			opptOpptGamesWon = opptOpptGamesWon + standingsMap.get(opptTeamKey).getOpptGamesWon() - headToHeadMap.get(opptTeamKey).getOpptGamesWon();
+			opptOpptGamesPlayed = opptOpptGamesPlayed + standingsMap.get(opptTeamKey).getOpptGamesPlayed() - headToHeadMap.get(opptTeamKey).getOpptGamesPlayed();
+
+			if (opptGamesWon > opptGamesPlayed) {
+				//head to head wins exceed opponent wins, should only occur until wins start to occur
+				opptGamesWon = opptGamesPlayed;
+			}
+		}
+		return new StandingRecord(opptGamesWon, opptGamesPlayed, opptOpptGamesWon, opptOpptGamesPlayed);
+	}
+}
@@ -0,0 +1,235 @@
+package com.rossotti.basketball.app;
+
+import com.rossotti.basketball.app.model.StandingRecord;
+import com.rossotti.basketball.app.service.HeadToHeadAppService;
+import com.rossotti.basketball.app.service.StandingAppService;
+import com.rossotti.basketball.jpa.model.BoxScore;
+import com.rossotti.basketball.jpa.model.Game;
+import com.rossotti.basketball.jpa.model.HeadToHead;
+import com.rossotti.basketball.jpa.model.Standing;
+import com.rossotti.basketball.jpa.model.Team;
+import com.rossotti.basketball.jpa.service.GameJpaService;
+import com.rossotti.basketball.jpa.service.HeadToHeadJpaService;
+import com.rossotti.basketball.jpa.service.StandingJpaService;
+import com.rossotti.basketball.jpa.service.TeamJpaService;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class HeadToHeadAppServiceTest {
+	@Mock
+	private HeadToHeadJpaService headToHeadJpaService;
+
+	@Mock
+	private GameJpaService gameJpaService;
+
+	@Mock
+	private StandingJpaService standingJpaService;
+
+	@Mock
+	private TeamJpaService teamJpaService;
+
+	private HeadToHeadAppService headToHeadAppService;
+
+	private StandingAppService standingAppService;
+
+	private GameByGameStrengthOfSchedule gameByGameStrengthOfSchedule;
+
+	private final LocalDate asOfDate = LocalDate.of(2016, 11, 5);
+
+	private final List<Game> games = Arrays.asList(
+		createMockGame(LocalDateTime.of(2016, 10, 25, 19, 0), "utah-jazz", "sacramento-kings", true),
+		createMockGame(LocalDateTime.of(2016, 10, 26, 19, 0), "denver-nuggets", "phoenix-suns", false),
+		createMockGame(LocalDateTime.of(2016, 10, 28, 19, 0), "utah-jazz", "denver-nuggets", false),
+		createMockGame(LocalDateTime.of(2016, 10, 29, 19, 0), "sacramento-kings", "phoenix-suns", true),
+		createMockGame(LocalDateTime.of(2016, 11, 1, 19, 0), "sacramento-kings", "utah-jazz", true),
+		createMockGame(LocalDateTime.of(2016, 11, 3, 19, 0), "phoenix-suns", "utah-jazz", false),
+		createMockGame(LocalDateTime.of(2016, 11, 4, 19, 0), "denver-nuggets", "sacramento-kings", true)
+	);
+
+	@Before
+	public void setUp() {
+		headToHeadAppService = new HeadToHeadAppService(headToHeadJpaService, gameJpaService);
+		standingAppService = new StandingAppService(standingJpaService, gameJpaService, teamJpaService);
+		gameByGameStrengthOfSchedule = new GameByGameStrengthOfSchedule(gameJpaService);
+	}
+
+	@Test
+	public void calculateStrengthOfSchedule_matchesGameByGame() {
+		List<HeadToHead> headToHeads = createHeadToHeads();
+		when(headToHeadJpaService.findBySeasonThroughDate(any()))
+			.thenReturn(headToHeads);
+		when(gameJpaService.findByTeamKeyAndAsOfDateSeason(anyString(), any()))
+			.thenAnswer(invocation -> findGames(invocation.getArgument(0)));
+		List<Standing> standings = createMockStandings();
+
+		assertMatchesGameByGame(standings, headToHeadAppService.calculateStrengthOfSchedule(standings, asOfDate));
+	}
+
+	@Test
+	public void calculateStrengthOfSchedule_matrixFromGames() {
+		when(gameJpaService.findByDateRange(any(), any()))
+			.thenReturn(games);
+		when(gameJpaService.findByTeamKeyAndAsOfDateSeason(anyString(), any()))
+			.thenAnswer(invocation -> findGames(invocation.getArgument(0)));
+		List<Standing> standings = createMockStandings();
+		assertMatchesGameByGame(standings, standingAppService.calculateStrengthOfSchedule(standings, asOfDate));
+		verify(gameJpaService).findByDateRange(LocalDate.of(2016, 7, 1), asOfDate);
+	}
+
+	@Test
+	public void calculateStrengthOfSchedule_behindStandings() {
+		when(headToHeadJpaService.findBySeasonThroughDate(any()))
+			.thenReturn(new ArrayList<>());
+		Assert.assertNull(headToHeadAppService.calculateStrengthOfSchedule(createMockStandings(), asOfDate));
+		verify(headToHeadJpaService, never()).deleteBySeason(any());
+		verify(headToHeadJpaService, never()).create(any());
+	}
+
+	@Test
+	public void calculateStrengthOfSchedule_earlierDate() {
+		List<HeadToHead> headToHeads = createHeadToHeads();
+		LocalDate earlierDate = LocalDate.of(2016, 10, 29);
+		when(headToHeadJpaService.findBySeasonThroughDate(earlierDate))
+			.thenReturn(headToHeads.stream().filter(headToHead -> !headToHead.getGameDate().isAfter(earlierDate)).collect(Collectors.toList()));
+		List<Standing> standings = createMockStandings(earlierDate);
+		Map<String, StandingRecord> strengthOfSchedule = headToHeadAppService.calculateStrengthOfSchedule(standings, earlierDate);
+		Assert.assertNotNull(strengthOfSchedule);
+		Assert.assertEquals(4, strengthOfSchedule.size());
+	}
+
+	@Test
+	public void rebuildSeason() {
+		List<HeadToHead> headToHeads = createHeadToHeads();
+		Assert.assertEquals(14, headToHeads.size());
+		verify(headToHeadJpaService, times(14)).create(any());
+	}
+
+	@Test
+	public void calculateStrengthOfSchedule_aheadOfStandings() {
+		List<HeadToHead> headToHeads = createHeadToHeads();
+		headToHeads.get(0).setGamesPlayed((short) (headToHeads.get(0).getGamesPlayed() + 1));
+		when(headToHeadJpaService.findBySeasonThroughDate(any()))
+			.thenReturn(headToHeads);
+		Assert.assertNull(headToHeadAppService.calculateStrengthOfSchedule(createMockStandings(), asOfDate));
+	}
+
+	@Test
+	public void recordGame() {
+		headToHeadAppService.recordGame(games.get(0));
+		verify(headToHeadJpaService).recordGame(LocalDate.of(2016, 10, 25), "sacramento-kings", "utah-jazz", false);
+		verify(headToHeadJpaService).recordGame(LocalDate.of(2016, 10, 25), "utah-jazz", "sacramento-kings", true);
+	}
+
+	@Test
+	public void recordGame_notCompleted() {
+		Game game = createMockGame(LocalDateTime.of(2016, 11, 6, 19, 0), "utah-jazz", "sacramento-kings", true);
+		game.setStatus(Game.GameStatus.Scheduled);
+		headToHeadAppService.recordGame(game);
+		verify(headToHeadJpaService, times(0)).recordGame(any(), anyString(), anyString(), anyBoolean());
+	}
+
+	private void assertMatchesGameByGame(List<Standing> standings, Map<String, StandingRecord> strengthOfSchedule) {
+		Map<String, StandingRecord> expectedStrengthOfSchedule = gameByGameStrengthOfSchedule.calculateStrengthOfSchedule(standings, asOfDate);
+		Assert.assertEquals(4, strengthOfSchedule.size());
+		for (Standing standing : standings) {
+			String teamKey = standing.getTeam().getTeamKey();
+			StandingRecord expected = expectedStrengthOfSchedule.get(teamKey);
+			StandingRecord actual = strengthOfSchedule.get(teamKey);
+			Assert.assertEquals(teamKey, expected.getGamesWon(), actual.getGamesWon());
+			Assert.assertEquals(teamKey, expected.getGamesPlayed(), actual.getGamesPlayed());
+			Assert.assertEquals(teamKey, expected.getOpptGamesWon(), actual.getOpptGamesWon());
+			Assert.assertEquals(teamKey, expected.getOpptGamesPlayed(), actual.getOpptGamesPlayed());
+		}
+	}
+
+	private List<Game> findGames(String teamKey) {
+		return games.stream()
+			.filter(game -> game.getBoxScores().stream().anyMatch(boxScore -> boxScore.getTeam().getTeamKey().equals(teamKey)))
+			.collect(Collectors.toList());
+	}
+
+	private List<HeadToHead> createHeadToHeads() {
+		when(gameJpaService.findByDateRange(any(), any()))
+			.thenReturn(games);
+		when(headToHeadJpaService.create(any()))
+			.thenAnswer(invocation -> invocation.getArgument(0));
+		List<HeadToHead> headToHeads = headToHeadAppService.rebuildSeason(asOfDate);
+		verify(headToHeadJpaService).deleteBySeason(eq(LocalDate.of(2016, 7, 1)));
+		return headToHeads;
+	}
+
+	private List<Standing> createMockStandings() {
+		return createMockStandings(asOfDate);
+	}
+
+	private List<Standing> createMockStandings(LocalDate standingDate) {
+		List<Standing> standings = new ArrayList<>();
+		for (String teamKey : Arrays.asList("utah-jazz", "sacramento-kings", "denver-nuggets", "phoenix-suns")) {
+			short gamesWon = 0;
+			short gamesPlayed = 0;
+			for (Game game : findGames(teamKey)) {
+				if (game.getGameDateTime().toLocalDate().isAfter(standingDate)) {
+					continue;
+				}
+				gamesPlayed++;
+				for (BoxScore boxScore : game.getBoxScores()) {
+					if (boxScore.getTeam().getTeamKey().equals(teamKey) && boxScore.getResult() == BoxScore.Result.Win) {
+						gamesWon++;
+					}
+				}
+			}
+			Standing standing = new Standing();
+			standing.setTeam(createMockTeam(teamKey));
+			standing.setGamesWon(gamesWon);
+			standing.setGamesPlayed(gamesPlayed);
+			standings.add(standing);
+		}
+		return standings;
+	}
+
+	private Game createMockGame(LocalDateTime gameDateTime, String homeTeamKey, String awayTeamKey, boolean homeWon) {
+		Game game = new Game();
+		game.setGameDateTime(gameDateTime);
+		game.setStatus(Game.GameStatus.Completed);
+		game.addBoxScore(createMockBoxScore(game, homeTeamKey, BoxScore.Location.Home, homeWon));
+		game.addBoxScore(createMockBoxScore(game, awayTeamKey, BoxScore.Location.Away, !homeWon));
+		return game;
+	}
+
+	private BoxScore createMockBoxScore(Game game, String teamKey, BoxScore.Location location, boolean won) {
+		BoxScore boxScore = new BoxScore();
+		boxScore.setGame(game);
+		boxScore.setTeam(createMockTeam(teamKey));
+		boxScore.setLocation(location);
+		boxScore.setResult(won ? BoxScore.Result.Win : BoxScore.Result.Loss);
+		return boxScore;
+	}
+
+	private Team createMockTeam(String teamKey) {
+		Team team = new Team();
+		team.setTeamKey(teamKey);
+		return team;
+	}
+}
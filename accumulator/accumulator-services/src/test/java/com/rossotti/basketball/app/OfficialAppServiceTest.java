@@ -17,10 +17,16 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.junit4.SpringRunner;
 
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(SpringRunner.class)
@@ -34,6 +40,8 @@ public class OfficialAppServiceTest {
 
 	@Test(expected=NoSuchEntityException.class)
 	public void getGameOfficials_notFound() {
+		when(officialJpaService.findByDateRange(any(), any()))
+			.thenReturn(Collections.singletonList(createMockOfficial("Coors", "Adolph", StatusCodeDAO.Found)));
 		when(officialJpaService.findByLastNameAndFirstNameAndAsOfDate(anyString(), anyString(), any()))
 			.thenReturn(createMockOfficial("", "", StatusCodeDAO.NotFound));
 		List<GameOfficial> officials = officialAppService.getGameOfficials(createMockOfficialDTOs(), createMockGame(), LocalDate.of(1995, 11, 26));
@@ -42,13 +50,29 @@ public class OfficialAppServiceTest {
 
 	@Test
 	public void getGameOfficials_found() {
-		when(officialJpaService.findByLastNameAndFirstNameAndAsOfDate(anyString(), anyString(), any()))
-			.thenReturn(createMockOfficial("Adams", "Samuel", StatusCodeDAO.Found))
+		when(officialJpaService.findByDateRange(any(), any()))
+			.thenReturn(Arrays.asList(
+				createMockOfficial("Adams", "Samuel", StatusCodeDAO.Found),
+				createMockOfficial("COORS", "Adolph", StatusCodeDAO.Found)
+			));
+		List<GameOfficial> officials = officialAppService.getGameOfficials(createMockOfficialDTOs(), createMockGame(), LocalDate.of(1995, 11, 26));
+		officialAppService.getGameOfficials(createMockOfficialDTOs(), createMockGame(), LocalDate.of(1996, 2, 10));
+		Assert.assertEquals(2, officials.size());
+		Assert.assertEquals("COORS", officials.get(1).getOfficial().getLastName());
+		Assert.assertEquals("Adolph", officials.get(1).getOfficial().getFirstName());
+		verify(officialJpaService, times(1)).findByDateRange(eq(LocalDate.of(1995, 7, 1)), eq(LocalDate.of(1996, 6, 30)));
+		verify(officialJpaService, never()).findByLastNameAndFirstNameAndAsOfDate(anyString(), anyString(), any());
+	}
+
+	@Test
+	public void getGameOfficials_notInDirectory() {
+		when(officialJpaService.findByDateRange(any(), any()))
+			.thenReturn(Collections.singletonList(createMockOfficial("Adams", "Samuel", StatusCodeDAO.Found)));
+		when(officialJpaService.findByLastNameAndFirstNameAndAsOfDate(eq("Coors"), eq("Adolph"), any()))
 			.thenReturn(createMockOfficial("Coors", "Adolph", StatusCodeDAO.Found));
 		List<GameOfficial> officials = officialAppService.getGameOfficials(createMockOfficialDTOs(), createMockGame(), LocalDate.of(1995, 11, 26));
 		Assert.assertEquals(2, officials.size());
 		Assert.assertEquals("Coors", officials.get(1).getOfficial().getLastName());
-		Assert.assertEquals("Adolph", officials.get(1).getOfficial().getFirstName());
 	}
 
 	private OfficialDTO[] createMockOfficialDTOs() {
@@ -69,6 +93,8 @@ public class OfficialAppServiceTest {
 		Official official = new Official();
 		official.setLastName(lastName);
 		official.setFirstName(firstName);
+		official.setFromDate(LocalDate.of(1990, 7, 1));
+		official.setToDate(LocalDate.of(9999, 12, 31));
 		official.setStatusCode(statusCode);
 		return official;
 	}
@@ -20,10 +20,13 @@ import org.springframework.test.context.junit4.SpringRunner;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(SpringRunner.class)
@@ -40,20 +43,25 @@ public class RosterPlayerAppServiceTest {
 
 	@Test(expected=NoSuchEntityException.class)
 	public void getBoxScorePlayers_notFound() {
-		when(rosterPlayerJpaService.findByLastNameAndFirstNameAndTeamKeyAndAsOfDate(anyString(), anyString(), anyString(), any()))
-			.thenReturn(createMockRosterPlayer("", "", StatusCodeDAO.NotFound));
+		when(rosterPlayerJpaService.findByTeamKeyAndAsOfDate(anyString(), any()))
+			.thenReturn(Collections.singletonList(createMockRosterPlayer("Coors", "Adolph", StatusCodeDAO.Found)));
 		List<BoxScorePlayer> boxScorePlayers = rosterPlayerAppService.getBoxScorePlayers(createMockBoxScorePlayerDTOs(), createMockBoxScore(), LocalDate.of(1995, 11, 26), "sacramento-hornets");
 		Assert.assertEquals(0, boxScorePlayers.size());
 	}
 
 	@Test
 	public void getBoxScorePlayers_found() {
-		when(rosterPlayerJpaService.findByLastNameAndFirstNameAndTeamKeyAndAsOfDate(anyString(), anyString(), anyString(), any()))
-			.thenReturn(createMockRosterPlayer("Coors", "Adolph", StatusCodeDAO.Found));
+		when(rosterPlayerJpaService.findByTeamKeyAndAsOfDate(anyString(), any()))
+			.thenReturn(Arrays.asList(
+				createMockRosterPlayer("Coors", "Adolph", StatusCodeDAO.Found),
+				createMockRosterPlayer("ADAMS", "Samuel", StatusCodeDAO.Found)
+			));
 		List<BoxScorePlayer> boxScorePlayers = rosterPlayerAppService.getBoxScorePlayers(createMockBoxScorePlayerDTOs(), createMockBoxScore(), LocalDate.of(1995, 11, 26), "sacramento-hornets");
 		Assert.assertEquals(2, boxScorePlayers.size());
+		Assert.assertEquals("ADAMS", boxScorePlayers.get(0).getRosterPlayer().getPlayer().getLastName());
 		Assert.assertEquals("Coors", boxScorePlayers.get(1).getRosterPlayer().getPlayer().getLastName());
 		Assert.assertEquals("Adolph", boxScorePlayers.get(1).getRosterPlayer().getPlayer().getFirstName());
+		verify(rosterPlayerJpaService, times(1)).findByTeamKeyAndAsOfDate(anyString(), any());
 	}
 	
 	@Test(expected=NoSuchEntityException.class)
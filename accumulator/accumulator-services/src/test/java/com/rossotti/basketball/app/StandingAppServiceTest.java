@@ -4,7 +4,6 @@ import com.rossotti.basketball.app.model.StandingRecord;
 import com.rossotti.basketball.app.service.StandingAppService;
 import com.rossotti.basketball.client.dto.StandingDTO;
 import com.rossotti.basketball.client.dto.StandingsDTO;
-import com.rossotti.basketball.jpa.exception.DuplicateEntityException;
 import com.rossotti.basketball.jpa.exception.NoSuchEntityException;
 import com.rossotti.basketball.jpa.model.AbstractDomainClass.StatusCodeDAO;
 import com.rossotti.basketball.jpa.model.BoxScore;
@@ -99,23 +98,6 @@ public class StandingAppServiceTest {
 		Assert.assertTrue(standings.get(1).isFound());
 	}
 
-	@Test(expected=DuplicateEntityException.class)
-	public void createStanding_alreadyExists() {
-		when(standingJpaService.create(any()))
-			.thenThrow(new DuplicateEntityException(Standing.class));
-		Standing standing = standingAppService.createStanding(createMockStanding("houston-rockets", (short)7, (short)10, null, null, StatusCodeDAO.Found));
-		Assert.assertTrue(standing.isNotFound());
-	}
-
-	@Test
-	public void createStanding_created() {
-		when(standingJpaService.create(any()))
-			.thenReturn(createMockStanding("sacramento-kings",(short)1, (short)4, null, null, StatusCodeDAO.Created));
-		Standing standing = standingAppService.createStanding(createMockStanding("sacramento-kings", (short)5, (short)15, null, null, StatusCodeDAO.NotFound));
-		Assert.assertEquals("sacramento-kings", standing.getTeam().getTeamKey());
-		Assert.assertTrue(standing.isCreated());
-	}
-
 	@Test
 	public void updateStanding_notFound() {
 		when(standingJpaService.update(any()))
@@ -134,19 +116,11 @@ public class StandingAppServiceTest {
 		Assert.assertTrue(standing.isUpdated());
 	}
 
-	@Test
-	public void deleteStandings_notFound() {
-		when(standingJpaService.findByAsOfDate(any()))
-			.thenReturn(new ArrayList<>());
-		List<Standing> standings = standingAppService.deleteStandings(any());
-		Assert.assertEquals(0, standings.size());
-	}
-
 	@Test
 	public void buildStandingsMap_noEntries() {
 		when(gameJpaService.findByTeamKeyAndAsOfDateSeason(anyString(), any()))
 			.thenReturn(new ArrayList<>());
-		Map<String, StandingRecord> standingsMap = standingAppService.buildStandingsMap(new ArrayList<>(), LocalDate.of(2012, 6, 12));
+		Map<String, StandingRecord> standingsMap = new GameByGameStrengthOfSchedule(gameJpaService).buildStandingsMap(new ArrayList<>(), LocalDate.of(2012, 6, 12));
 		Assert.assertEquals(new HashMap<String, StandingRecord>(), standingsMap);
 	}
 
@@ -155,7 +129,7 @@ public class StandingAppServiceTest {
 		when(gameJpaService.findByTeamKeyAndAsOfDateSeason(anyString(), any()))
 			.thenReturn(createMockGames_Kings())
 			.thenReturn(createMockGames_Jazz());
-		Map<String, StandingRecord> standingsMap = standingAppService.buildStandingsMap(createMockStandings(), LocalDate.of(2012, 6, 12));
+		Map<String, StandingRecord> standingsMap = new GameByGameStrengthOfSchedule(gameJpaService).buildStandingsMap(createMockStandings(), LocalDate.of(2012, 6, 12));
 		Assert.assertEquals(5, standingsMap.size());
 		Assert.assertEquals(3, standingsMap.get("utah-jazz").getGamesWon().intValue());
 		Assert.assertEquals(4, standingsMap.get("utah-jazz").getGamesPlayed().intValue());
@@ -170,14 +144,14 @@ public class StandingAppServiceTest {
 			.thenReturn(createMockGames_Jazz());
 		Map<String, StandingRecord> headToHeadMap;
 		//headToHead map with entries
-		headToHeadMap = standingAppService.buildHeadToHeadMap("sacramento-kings", LocalDate.of(2012, 6, 12), createMockStandingsMap());
+		headToHeadMap = new GameByGameStrengthOfSchedule(gameJpaService).buildHeadToHeadMap("sacramento-kings", LocalDate.of(2012, 6, 12), createMockStandingsMap());
 		Assert.assertEquals(3, headToHeadMap.size());
 		Assert.assertEquals(0, headToHeadMap.get("detroit-pistons").getGamesWon().intValue());
 		Assert.assertEquals(1, headToHeadMap.get("detroit-pistons").getGamesPlayed().intValue());
 		Assert.assertEquals(1, headToHeadMap.get("detroit-pistons").getOpptGamesWon().intValue());
 		Assert.assertEquals(4, headToHeadMap.get("detroit-pistons").getOpptGamesPlayed().intValue());
 
-		headToHeadMap = standingAppService.buildHeadToHeadMap("utah-jazz", LocalDate.of(2012, 6, 12), createMockStandingsMap());
+		headToHeadMap = new GameByGameStrengthOfSchedule(gameJpaService).buildHeadToHeadMap("utah-jazz", LocalDate.of(2012, 6, 12), createMockStandingsMap());
 		Assert.assertEquals(3, headToHeadMap.size());
 		Assert.assertEquals(0, headToHeadMap.get("phoenix-suns").getGamesWon().intValue());
 		Assert.assertEquals(2, headToHeadMap.get("phoenix-suns").getGamesPlayed().intValue());
@@ -190,13 +164,81 @@ public class StandingAppServiceTest {
 		when(gameJpaService.findByTeamKeyAndAsOfDateSeason(anyString(), any()))
 			.thenReturn(createMockGames_Kings())
 			.thenReturn(createMockGames_Jazz());
-		StandingRecord standingRecord = standingAppService.calculateStrengthOfSchedule("sacramento-kings", LocalDate.of(2012, 6, 12), createMockStandingsMap(), createMockHeadToHeadMap_Kings());
+		StandingRecord standingRecord = new GameByGameStrengthOfSchedule(gameJpaService).calculateStrengthOfSchedule("sacramento-kings", LocalDate.of(2012, 6, 12), createMockStandingsMap(), createMockHeadToHeadMap_Kings());
 		Assert.assertEquals(3, standingRecord.getGamesWon().intValue());
 		Assert.assertEquals(7, standingRecord.getGamesPlayed().intValue());
 		Assert.assertEquals(-12, standingRecord.getOpptGamesWon().intValue());
 		Assert.assertEquals(-19, standingRecord.getOpptGamesPlayed().intValue());
 	}
 
+	@Test
+	public void calculateStrengthOfSchedule_postponedGame() {
+		Game postponedGame = createMockGame(LocalDateTime.of(2015, 12, 6, 10, 0), "utah-jazz", "sacramento-kings");
+		postponedGame.setStatus(Game.GameStatus.Postponed);
+		when(gameJpaService.findByDateRange(any(), any()))
+			.thenReturn(Arrays.asList(
+				createMockGame(LocalDateTime.of(2015, 12, 2, 10, 0), "utah-jazz", "sacramento-kings", true),
+				createMockGame(LocalDateTime.of(2015, 12, 3, 10, 0), "sacramento-kings", "phoenix-suns", true),
+				createMockGame(LocalDateTime.of(2015, 12, 4, 10, 0), "phoenix-suns", "utah-jazz", true),
+				postponedGame
+			));
+		List<Standing> standings = Arrays.asList(
+			createMockStanding("utah-jazz", (short)1, (short)2, 0, 0, StatusCodeDAO.Found),
+			createMockStanding("sacramento-kings", (short)1, (short)2, 0, 0, StatusCodeDAO.Found),
+			createMockStanding("phoenix-suns", (short)1, (short)2, 0, 0, StatusCodeDAO.Found)
+		);
+		Map<String, StandingRecord> strengthOfSchedule = standingAppService.calculateStrengthOfSchedule(standings, LocalDate.of(2015, 12, 6));
+		Assert.assertEquals(3, strengthOfSchedule.size());
+		Assert.assertEquals(1, strengthOfSchedule.get("utah-jazz").getGamesWon().intValue());
+		Assert.assertEquals(2, strengthOfSchedule.get("utah-jazz").getGamesPlayed().intValue());
+	}
+
+	@Test
+	public void calculateStandings() {
+		when(gameJpaService.findByDateRange(any(), any()))
+			.thenReturn(Arrays.asList(
+				createMockGame(LocalDateTime.of(2015, 12, 4, 10, 0), "utah-jazz", "sacramento-kings", false),
+				createMockGame(LocalDateTime.of(2015, 12, 2, 10, 0), "utah-jazz", "sacramento-kings", true),
+				createMockGame(LocalDateTime.of(2015, 12, 5, 10, 0), "sacramento-kings", "utah-jazz")
+			));
+		when(teamJpaService.findByDate(any()))
+			.thenReturn(Arrays.asList(createMockTeam("utah-jazz", StatusCodeDAO.Found), createMockTeam("sacramento-kings", StatusCodeDAO.Found)));
+		List<Standing> standings = standingAppService.calculateStandings(LocalDate.of(2015, 12, 5));
+		Assert.assertEquals(2, standings.size());
+		Standing standing = standings.get(0);
+		Assert.assertEquals("utah-jazz", standing.getTeam().getTeamKey());
+		Assert.assertEquals(LocalDate.of(2015, 12, 5), standing.getStandingDate());
+		Assert.assertEquals(1, standing.getGamesWon().intValue());
+		Assert.assertEquals(1, standing.getGamesLost().intValue());
+		Assert.assertEquals(1, standing.getHomeWins().intValue());
+		Assert.assertEquals(1, standing.getHomeLosses().intValue());
+		Assert.assertEquals("L1", standing.getStreak());
+		Assert.assertEquals("1-1", standing.getLastTen());
+		Assert.assertEquals(0, standing.getOpptGamesPlayed().intValue());
+	}
+
+	@Test
+	public void compareStandings() {
+		Standing standing = createMockStanding("denver-nuggets", (short)70, (short)82, 0, 0, StatusCodeDAO.Found);
+		standing.setGamesLost((short)12);
+		standing.setHomeWins((short)40);
+		standing.setHomeLosses((short)2);
+		standing.setAwayWins((short)30);
+		standing.setAwayLosses((short)10);
+		standing.setConferenceWins((short)42);
+		standing.setConferenceLosses((short)3);
+		standing.setStreak("W3");
+		standing.setLastFive("4-1");
+		standing.setLastTen("9-1");
+		standing.setPointsFor((short)5350);
+		standing.setPointsAgainst((short)5041);
+		StandingsDTO standingsDTO = createMockStandingsDTO_teamFound();
+		Assert.assertEquals(0, standingAppService.compareStandings(Collections.singletonList(standing), standingsDTO));
+		standing.setLastTen("8-2");
+		Assert.assertEquals(1, standingAppService.compareStandings(Collections.singletonList(standing), standingsDTO));
+		Assert.assertEquals(1, standingAppService.compareStandings(new ArrayList<>(), standingsDTO));
+	}
+
 	private StandingsDTO createMockStandingsDTO_teamNotFound() {
 		StandingsDTO standings = new StandingsDTO();
 		standings.standings_date = ZonedDateTime.parse("2015-11-29T18:00:00-05:00");
@@ -311,6 +353,16 @@ public class StandingAppServiceTest {
 		);
 	}
 
+	private Game createMockGame(LocalDateTime gameDateTime, String homeTeamKey, String awayTeamKey, boolean homeWon) {
+		Game game = createMockGame(gameDateTime, homeTeamKey, awayTeamKey);
+		game.setStatus(Game.GameStatus.Completed);
+		game.getBoxScores().get(0).setLocation(BoxScore.Location.Home);
+		game.getBoxScores().get(0).setResult(homeWon ? BoxScore.Result.Win : BoxScore.Result.Loss);
+		game.getBoxScores().get(1).setLocation(BoxScore.Location.Away);
+		game.getBoxScores().get(1).setResult(homeWon ? BoxScore.Result.Loss : BoxScore.Result.Win);
+		return game;
+	}
+
 	private Game createMockGame(LocalDateTime gameDateTime, String homeTeamKey, String awayTeamKey) {
 		Game game = new Game();
 		game.setGameDateTime(gameDateTime);
@@ -0,0 +1,135 @@
+package com.rossotti.basketball.app;
+
+import com.rossotti.basketball.app.model.StandingRecord;
+import com.rossotti.basketball.app.service.StandingAppService;
+import com.rossotti.basketball.jpa.model.BoxScore;
+import com.rossotti.basketball.jpa.model.Game;
+import com.rossotti.basketball.jpa.model.Standing;
+import com.rossotti.basketball.jpa.model.Team;
+import com.rossotti.basketball.jpa.service.GameJpaService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Strength of schedule for a full 30 team, 1230 game season: game by game maps against the head to head matrix.
+ * Games are served from memory so only the calculation is measured.
+ * Run with: mvn test-compile exec:java -Dexec.mainClass=com.rossotti.basketball.app.StandingCalculationBenchmark -Dexec.classpathScope=test
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StandingCalculationBenchmark {
+	private static final int teams = 30;
+
+	private static final int gamesPerTeam = 82;
+
+	private final LocalDate asOfDate = LocalDate.of(2017, 4, 12);
+
+	private List<Standing> standings;
+
+	private StandingAppService standingAppService;
+
+	private GameByGameStrengthOfSchedule gameByGameStrengthOfSchedule;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(2016);
+		List<Game> games = new ArrayList<>();
+		Map<String, List<Game>> teamGames = new HashMap<>();
+		int[] gamesWon = new int[teams];
+		LocalDateTime gameDateTime = LocalDateTime.of(2016, 10, 25, 19, 0);
+		for (int round = 0; round < gamesPerTeam; round++) {
+			//pair every team once per round, rotating opponents
+			for (int i = 0; i < teams / 2; i++) {
+				int home = (round + i) % teams;
+				int away = (round + teams - 1 - i) % teams;
+				boolean homeWon = random.nextBoolean();
+				Game game = createGame(gameDateTime.plusDays(round * 2), teamKey(home), teamKey(away), homeWon);
+				games.add(game);
+				teamGames.computeIfAbsent(teamKey(home), key -> new ArrayList<>()).add(game);
+				teamGames.computeIfAbsent(teamKey(away), key -> new ArrayList<>()).add(game);
+				gamesWon[homeWon ? home : away]++;
+			}
+		}
+
+		standings = new ArrayList<>();
+		for (int i = 0; i < teams; i++) {
+			Team team = new Team();
+			team.setTeamKey(teamKey(i));
+			Standing standing = new Standing();
+			standing.setTeam(team);
+			standing.setGamesWon((short) gamesWon[i]);
+			standing.setGamesPlayed((short) teamGames.get(teamKey(i)).size());
+			standings.add(standing);
+		}
+
+		GameJpaService gameJpaService = (GameJpaService) Proxy.newProxyInstance(GameJpaService.class.getClassLoader(), new Class<?>[] {GameJpaService.class},
+			(proxy, method, args) -> method.getName().equals("findByDateRange") ? games : teamGames.get((String) args[0]));
+		standingAppService = new StandingAppService(null, gameJpaService, null);
+		gameByGameStrengthOfSchedule = new GameByGameStrengthOfSchedule(gameJpaService);
+	}
+
+	@Benchmark
+	public Map<String, StandingRecord> gameByGameMaps() {
+		return gameByGameStrengthOfSchedule.calculateStrengthOfSchedule(standings, asOfDate);
+	}
+
+	@Benchmark
+	public Map<String, StandingRecord> headToHeadMatrix() {
+		return standingAppService.calculateStrengthOfSchedule(standings, asOfDate);
+	}
+
+	private String teamKey(int team) {
+		return "team-" + team;
+	}
+
+	private Game createGame(LocalDateTime gameDateTime, String homeTeamKey, String awayTeamKey, boolean homeWon) {
+		Game game = new Game();
+		game.setGameDateTime(gameDateTime);
+		game.setStatus(Game.GameStatus.Completed);
+		game.addBoxScore(createBoxScore(game, homeTeamKey, BoxScore.Location.Home, homeWon));
+		game.addBoxScore(createBoxScore(game, awayTeamKey, BoxScore.Location.Away, !homeWon));
+		return game;
+	}
+
+	private BoxScore createBoxScore(Game game, String teamKey, BoxScore.Location location, boolean won) {
+		Team team = new Team();
+		team.setTeamKey(teamKey);
+		BoxScore boxScore = new BoxScore();
+		boxScore.setGame(game);
+		boxScore.setTeam(team);
+		boxScore.setLocation(location);
+		boxScore.setResult(won ? BoxScore.Result.Win : BoxScore.Result.Loss);
+		return boxScore;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+			.include(StandingCalculationBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
@@ -0,0 +1,109 @@
+package com.rossotti.basketball.business;
+
+import com.rossotti.basketball.business.service.BoxScoreBusService;
+import com.rossotti.basketball.business.service.GameBusService;
+import com.rossotti.basketball.client.dto.GameDTO;
+import com.rossotti.basketball.client.dto.StatusCodeDTO.StatusCode;
+import com.rossotti.basketball.jpa.model.Game;
+import com.rossotti.basketball.jpa.model.Game.GameStatus;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BoxScoreBusServiceTest {
+	@Mock
+	private GameBusService gameBusService;
+
+	private ThreadPoolTaskExecutor prefetchTaskExecutor;
+
+	private BoxScoreBusService boxScoreBusService;
+
+	@Before
+	public void setUp() {
+		prefetchTaskExecutor = new ThreadPoolTaskExecutor();
+		prefetchTaskExecutor.setCorePoolSize(2);
+		prefetchTaskExecutor.initialize();
+		boxScoreBusService = new BoxScoreBusService(gameBusService, prefetchTaskExecutor);
+	}
+
+	@After
+	public void tearDown() {
+		prefetchTaskExecutor.shutdown();
+	}
+
+	@Test
+	public void take_notPrefetched() {
+		when(gameBusService.getEvent(any()))
+			.thenReturn("20151027-chicago-zephyrs-at-st-louis-bombers");
+		Assert.assertNull(boxScoreBusService.take(createMockGame(GameStatus.Scheduled)));
+	}
+
+	@Test
+	public void take_prefetched() {
+		when(gameBusService.getEvent(any()))
+			.thenReturn("20151027-chicago-zephyrs-at-st-louis-bombers");
+		when(gameBusService.retrieveBoxScore(anyString()))
+			.thenReturn(createMockGameDTO());
+		Game game = createMockGame(GameStatus.Scheduled);
+		boxScoreBusService.prefetch(Collections.singletonList(game));
+		boxScoreBusService.prefetch(Collections.singletonList(game));
+		GameDTO gameDTO = boxScoreBusService.take(game);
+		Assert.assertTrue(gameDTO.isFound());
+		Assert.assertNull(boxScoreBusService.take(game));
+		verify(gameBusService, times(1)).retrieveBoxScore(anyString());
+	}
+
+	@Test
+	public void prefetch_completedGame() {
+		boxScoreBusService.prefetch(Collections.singletonList(createMockGame(GameStatus.Completed)));
+		verify(gameBusService, times(0)).retrieveBoxScore(anyString());
+	}
+
+	@Test
+	public void evict_splitReleased() {
+		when(gameBusService.getEvent(any()))
+			.thenReturn("20151027-chicago-zephyrs-at-st-louis-bombers");
+		Game game = createMockGame(GameStatus.Scheduled);
+		boxScoreBusService.prefetch("request-1", Collections.singletonList(game));
+		boxScoreBusService.evict("request-1");
+		Assert.assertNull(boxScoreBusService.take(game));
+	}
+
+	@Test
+	public void evict_otherSplit() {
+		when(gameBusService.getEvent(any()))
+			.thenReturn("20151027-chicago-zephyrs-at-st-louis-bombers");
+		when(gameBusService.retrieveBoxScore(anyString()))
+			.thenReturn(createMockGameDTO());
+		Game game = createMockGame(GameStatus.Scheduled);
+		boxScoreBusService.prefetch("request-1", Collections.singletonList(game));
+		boxScoreBusService.evict("request-2");
+		Assert.assertTrue(boxScoreBusService.take(game).isFound());
+	}
+
+	private Game createMockGame(GameStatus status) {
+		Game game = new Game();
+		game.setStatus(status);
+		return game;
+	}
+
+	private GameDTO createMockGameDTO() {
+		GameDTO gameDTO = new GameDTO();
+		gameDTO.setStatusCode(StatusCode.Found);
+		return gameDTO;
+	}
+}
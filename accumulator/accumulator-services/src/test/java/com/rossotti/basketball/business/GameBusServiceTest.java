@@ -2,12 +2,14 @@ package com.rossotti.basketball.business;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rossotti.basketball.app.service.GameAppService;
+import com.rossotti.basketball.app.service.HeadToHeadAppService;
 import com.rossotti.basketball.app.service.OfficialAppService;
 import com.rossotti.basketball.app.service.RosterPlayerAppService;
 import com.rossotti.basketball.app.service.TeamAppService;
 import com.rossotti.basketball.business.model.GameBusiness;
 import com.rossotti.basketball.business.model.StatusCodeBusiness;
 import com.rossotti.basketball.business.service.GameBusService;
+import com.rossotti.basketball.business.service.ScoringLock;
 import com.rossotti.basketball.client.dto.GameDTO;
 import com.rossotti.basketball.client.dto.StatusCodeDTO.StatusCode;
 import com.rossotti.basketball.client.service.FileStatsService;
@@ -22,9 +24,11 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.core.env.Environment;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -33,6 +37,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -58,6 +64,15 @@ public class GameBusServiceTest {
 	@Mock
 	private GameAppService gameAppService;
 
+	@Mock
+	private HeadToHeadAppService headToHeadAppService;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Spy
+	private ScoringLock scoringLock = new ScoringLock();
+
 	@InjectMocks
 	private GameBusService gameBusService;
 
@@ -103,8 +118,6 @@ public class GameBusServiceTest {
 	public void restClientService_gameNotFound() {
 		when(env.getProperty("accumulator.source.boxScore"))
 			.thenReturn("Api");
-		when(env.getProperty("sleep.duration"))
-			.thenReturn("0");
 		when(restStatsService.retrieveBoxScore(anyString(), anyBoolean()))
 			.thenReturn(createMockGameDTO_StatusCode(StatusCode.NotFound));
 		GameBusiness game = gameBusService.scoreGame(createMockGame_Scheduled());
@@ -115,8 +128,6 @@ public class GameBusServiceTest {
 	public void restClientService_clientException() {
 		when(env.getProperty("accumulator.source.boxScore"))
 			.thenReturn("Api");
-		when(env.getProperty("sleep.duration"))
-			.thenReturn("0");
 		when(restStatsService.retrieveBoxScore(anyString(), anyBoolean()))
 			.thenReturn(createMockGameDTO_StatusCode(StatusCode.ClientException));
 		GameBusiness game = gameBusService.scoreGame(createMockGame_Scheduled());
@@ -127,29 +138,72 @@ public class GameBusServiceTest {
 	public void rosterPlayerService_getBoxScorePlayers_appRosterUpdate() {
 		when(env.getProperty("accumulator.source.boxScore"))
 			.thenReturn("Api");
-		when(env.getProperty("sleep.duration"))
-			.thenReturn("0");
 		when(restStatsService.retrieveBoxScore(anyString(), anyBoolean()))
 			.thenReturn(createMockGameDTO_Found());
 		when(rosterPlayerAppService.getBoxScorePlayers(any(), any(), any(), anyString()))
 			.thenThrow(new NoSuchEntityException(RosterPlayer.class));
-		GameBusiness game = gameBusService.scoreGame(createMockGame_Scheduled());
+		GameBusiness game = gameBusService.scoreGame(createMockGame_Managed());
 		Assert.assertTrue(game.isRosterUpdate());
 	}
 
+	@Test
+	public void rosterPlayerService_getBoxScorePlayers_bothTeamsRosterUpdate() {
+		when(env.getProperty("accumulator.source.boxScore"))
+			.thenReturn("Api");
+		when(restStatsService.retrieveBoxScore(anyString(), anyBoolean()))
+			.thenReturn(createMockGameDTO_Found());
+		when(rosterPlayerAppService.getBoxScorePlayers(any(), any(), any(), anyString()))
+			.thenThrow(new NoSuchEntityException(RosterPlayer.class));
+		GameBusiness game = gameBusService.scoreGame(createMockGame_Managed());
+		Assert.assertTrue(game.isRosterUpdate());
+		Assert.assertEquals(2, game.getRosterUpdateTeams().size());
+		Assert.assertTrue(game.getGameDTO().isFound());
+	}
+
+	@Test
+	public void rosterPlayerService_getBoxScorePlayers_rosterCompleteStillMissing() {
+		when(rosterPlayerAppService.getBoxScorePlayers(any(), any(), any(), eq("detroit-pistons")))
+			.thenThrow(new NoSuchEntityException(RosterPlayer.class));
+		when(rosterPlayerAppService.getBoxScorePlayers(any(), any(), any(), eq("brooklyn-nets")))
+			.thenReturn(createMockBoxScorePlayers_Found());
+		GameBusiness gameBusiness = createMockGame_Managed();
+		gameBusiness.setStatusCode(StatusCodeBusiness.StatusCode.RosterComplete);
+		gameBusiness.setGameDTO(createMockGameDTO_Found());
+		gameBusiness.getRosterUpdateTeams().add("detroit-pistons");
+		GameBusiness game = gameBusService.scoreGame(gameBusiness);
+		Assert.assertTrue(game.isClientError());
+	}
+
+	@Test
+	public void gameService_updateGame_gameDTOAttached() {
+		when(rosterPlayerAppService.getBoxScorePlayers(any(), any(), any(), anyString()))
+			.thenReturn(createMockBoxScorePlayers_Found());
+		when(officialAppService.getGameOfficials(any(), any(), any()))
+			.thenReturn(createMockGameOfficials_Found());
+		when(teamAppService.findTeamByTeamKey(anyString(), any()))
+			.thenReturn(createMockTeam_Found());
+		when(gameAppService.completeGame(any()))
+			.thenAnswer(invocation -> completeMockGame(invocation.getArgument(0)));
+		GameBusiness gameBusiness = createMockGame_Managed();
+		gameBusiness.setStatusCode(StatusCodeBusiness.StatusCode.RosterComplete);
+		gameBusiness.setGameDTO(createMockGameDTO_Found());
+		GameBusiness game = gameBusService.scoreGame(gameBusiness);
+		Assert.assertTrue(game.isCompleted());
+		verify(restStatsService, never()).retrieveBoxScore(anyString(), anyBoolean());
+		verify(fileStatsService, never()).retrieveBoxScore(anyString());
+	}
+
 	@Test
 	public void officialService_getGameOfficials_appOfficialError() {
 		when(env.getProperty("accumulator.source.boxScore"))
 			.thenReturn("Api");
-		when(env.getProperty("sleep.duration"))
-			.thenReturn("0");
 		when(restStatsService.retrieveBoxScore(anyString(), anyBoolean()))
 			.thenReturn(createMockGameDTO_Found());
 		when(rosterPlayerAppService.getBoxScorePlayers(any(), any(), any(), anyString()))
 			.thenReturn(createMockBoxScorePlayers_Found());
 		when(officialAppService.getGameOfficials(any(), any(), any()))
 			.thenThrow(new NoSuchEntityException(Official.class));
-		GameBusiness game = gameBusService.scoreGame(createMockGame_Scheduled());
+		GameBusiness game = gameBusService.scoreGame(createMockGame_Managed());
 		Assert.assertTrue(game.isOfficialError());
 	}
 
@@ -157,8 +211,6 @@ public class GameBusServiceTest {
 	public void teamService_findTeam_appTeamError() {
 		when(env.getProperty("accumulator.source.boxScore"))
 			.thenReturn("Api");
-		when(env.getProperty("sleep.duration"))
-			.thenReturn("0");
 		when(restStatsService.retrieveBoxScore(anyString(), anyBoolean()))
 			.thenReturn(createMockGameDTO_Found());
 		when(rosterPlayerAppService.getBoxScorePlayers(any(), any(), any(), anyString()))
@@ -167,16 +219,27 @@ public class GameBusServiceTest {
 			.thenReturn(createMockGameOfficials_Found());
 		when(teamAppService.findTeamByTeamKey(anyString(), any()))
 			.thenThrow(new NoSuchEntityException(Team.class));
-		GameBusiness game = gameBusService.scoreGame(createMockGame_Scheduled());
+		GameBusiness game = gameBusService.scoreGame(createMockGame_Managed());
 		Assert.assertTrue(game.isTeamError());
 	}
 
+	@Test
+	public void prefetchServerException_retrievedInline() {
+		when(env.getProperty("accumulator.source.boxScore"))
+			.thenReturn("Api");
+		when(restStatsService.retrieveBoxScore(anyString(), anyBoolean()))
+			.thenReturn(createMockGameDTO_StatusCode(StatusCode.NotFound));
+		GameBusiness gameBusiness = createMockGame_Scheduled();
+		gameBusiness.setGameDTO(createMockGameDTO_StatusCode(StatusCode.ServerException));
+		GameBusiness game = gameBusService.scoreGame(gameBusiness);
+		Assert.assertTrue(game.isClientError());
+		verify(restStatsService).retrieveBoxScore("20151126-detroit-pistons-at-brooklyn-nets", false);
+	}
+
 	@Test
 	public void gameService_updateGame_complete() {
 		when(env.getProperty("accumulator.source.boxScore"))
 			.thenReturn("Api");
-		when(env.getProperty("sleep.duration"))
-			.thenReturn("0");
 		when(restStatsService.retrieveBoxScore(anyString(), anyBoolean()))
 			.thenReturn(createMockGameDTO_Found());
 		when(rosterPlayerAppService.getBoxScorePlayers(any(), any(), any(), anyString()))
@@ -185,10 +248,15 @@ public class GameBusServiceTest {
 			.thenReturn(createMockGameOfficials_Found());
 		when(teamAppService.findTeamByTeamKey(anyString(), any()))
 			.thenReturn(createMockTeam_Found());
-		when(gameAppService.updateGame(any()))
-			.thenReturn(createMockGame_Updated());
+		when(gameAppService.completeGame(any()))
+			.thenAnswer(invocation -> completeMockGame(invocation.getArgument(0)));
+		Game managedGame = createMockGame_Scheduled().getGame();
+		when(gameAppService.findById(any()))
+			.thenReturn(managedGame);
 		GameBusiness game = gameBusService.scoreGame(createMockGame_Scheduled());
 		Assert.assertTrue(game.isCompleted());
+		Assert.assertSame(managedGame, game.getGame());
+		Assert.assertEquals(GameStatus.Completed, managedGame.getStatus());
 	}
 
 	private GameBusiness createMockGame_Scheduled() {
@@ -210,9 +278,14 @@ public class GameBusServiceTest {
 		return new GameBusiness(game, StatusCodeBusiness.StatusCode.Initial);
 	}
 
-	private Game createMockGame_Updated() {
-		Game game = new Game();
-		game.setGameDateTime(LocalDateTime.of(2015, 11, 24, 10, 0));
+	private GameBusiness createMockGame_Managed() {
+		GameBusiness gameBusiness = createMockGame_Scheduled();
+		when(gameAppService.findById(any()))
+			.thenReturn(gameBusiness.getGame());
+		return gameBusiness;
+	}
+
+	private Game completeMockGame(Game game) {
 		game.setStatusCode(StatusCodeDAO.Updated);
 		return game;
 	}
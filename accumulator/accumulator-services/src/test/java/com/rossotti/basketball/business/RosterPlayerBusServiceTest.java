@@ -3,7 +3,9 @@ package com.rossotti.basketball.business;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rossotti.basketball.app.service.PlayerAppService;
 import com.rossotti.basketball.app.service.RosterPlayerAppService;
+import com.rossotti.basketball.business.model.GameBusiness;
 import com.rossotti.basketball.business.model.RosterPlayerBusiness;
+import com.rossotti.basketball.business.model.StatusCodeBusiness;
 import com.rossotti.basketball.business.service.RosterPlayerBusService;
 import com.rossotti.basketball.client.dto.RosterDTO;
 import com.rossotti.basketball.client.dto.RosterPlayerDTO;
@@ -12,6 +14,7 @@ import com.rossotti.basketball.client.service.FileStatsService;
 import com.rossotti.basketball.client.service.RestStatsService;
 import com.rossotti.basketball.jpa.exception.NoSuchEntityException;
 import com.rossotti.basketball.jpa.model.AbstractDomainClass.StatusCodeDAO;
+import com.rossotti.basketball.jpa.model.Game;
 import com.rossotti.basketball.jpa.model.Player;
 import com.rossotti.basketball.jpa.model.RosterPlayer;
 import com.rossotti.basketball.jpa.model.Team;
@@ -23,14 +26,18 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.core.env.Environment;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -50,6 +57,9 @@ public class RosterPlayerBusServiceTest {
 	@Mock
 	private PlayerAppService playerAppService;
 
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
 	@InjectMocks
 	private RosterPlayerBusService rosterPlayerBusService;
 
@@ -105,8 +115,6 @@ public class RosterPlayerBusServiceTest {
 	public void restClientService_rosterNotFound() {
 		when(env.getProperty("accumulator.source.roster"))
 			.thenReturn("Api");
-		when(env.getProperty("sleep.duration"))
-			.thenReturn("0");
 		when(restStatsService.retrieveRoster(anyString(), anyBoolean(), any()))
 			.thenReturn(createMockRosterDTO_StatusCode(StatusCode.NotFound));
 		RosterPlayerBusiness roster = rosterPlayerBusService.loadRoster("2014-10-28", "detroit-pistons");
@@ -117,8 +125,6 @@ public class RosterPlayerBusServiceTest {
 	public void restClientService_clientException() {
 		when(env.getProperty("accumulator.source.roster"))
 			.thenReturn("Api");
-		when(env.getProperty("sleep.duration"))
-			.thenReturn("0");
 		when(restStatsService.retrieveRoster(anyString(), anyBoolean(), any()))
 			.thenReturn(createMockRosterDTO_StatusCode(StatusCode.ClientException));
 		RosterPlayerBusiness roster = rosterPlayerBusService.loadRoster("2014-10-28", "detroit-pistons");
@@ -129,8 +135,6 @@ public class RosterPlayerBusServiceTest {
 	public void restClientService_emptyList() {
 		when(env.getProperty("accumulator.source.roster"))
 			.thenReturn("Api");
-		when(env.getProperty("sleep.duration"))
-			.thenReturn("0");
 		when(restStatsService.retrieveRoster(anyString(), anyBoolean(), any()))
 			.thenReturn(createMockRosterDTO_StatusCode(StatusCode.Found));
 		RosterPlayerBusiness roster = rosterPlayerBusService.loadRoster("2014-10-28", "detroit-pistons");
@@ -141,8 +145,6 @@ public class RosterPlayerBusServiceTest {
 	public void rosterPlayerService_noSuchEntity_team() {
 		when(env.getProperty("accumulator.source.roster"))
 			.thenReturn("Api");
-		when(env.getProperty("sleep.duration"))
-			.thenReturn("0");
 		when(restStatsService.retrieveRoster(anyString(), anyBoolean(), any()))
 			.thenReturn(createMockRosterDTO_Found());
 		when(rosterPlayerAppService.getRosterPlayers(any(), any(), anyString()))
@@ -155,8 +157,6 @@ public class RosterPlayerBusServiceTest {
 	public void rosterPlayerService_getRosterPlayers_emptyList() {
 		when(env.getProperty("accumulator.source.roster"))
 			.thenReturn("Api");
-		when(env.getProperty("sleep.duration"))
-			.thenReturn("0");
 		when(restStatsService.retrieveRoster(anyString(), anyBoolean(), any()))
 			.thenReturn(createMockRosterDTO_Found());
 		when(rosterPlayerAppService.getRosterPlayers(any(), any(), anyString()))
@@ -169,8 +169,6 @@ public class RosterPlayerBusServiceTest {
 	public void rosterPlayerService_findRosterPlayers_emptyList() {
 		when(env.getProperty("accumulator.source.roster"))
 			.thenReturn("Api");
-		when(env.getProperty("sleep.duration"))
-			.thenReturn("0");
 		when(restStatsService.retrieveRoster(anyString(), anyBoolean(), any()))
 			.thenReturn(createMockRosterDTO_Found());
 		when(rosterPlayerAppService.getRosterPlayers(any(), any(), anyString()))
@@ -193,8 +191,6 @@ public class RosterPlayerBusServiceTest {
 	public void loadRoster_rosterUpdated() {
 		when(env.getProperty("accumulator.source.roster"))
 			.thenReturn("Api");
-		when(env.getProperty("sleep.duration"))
-			.thenReturn("0");
 		when(restStatsService.retrieveRoster(anyString(), anyBoolean(), any()))
 			.thenReturn(createMockRosterDTO_Found());
 		when(rosterPlayerAppService.getRosterPlayers(any(), any(), anyString()))
@@ -213,6 +209,71 @@ public class RosterPlayerBusServiceTest {
 		Assert.assertTrue(roster.isCompleted());
 	}
 
+	@Test
+	public void loadRoster_reuseCompleted() {
+		when(env.getProperty("accumulator.source.roster"))
+			.thenReturn("Api");
+		when(restStatsService.retrieveRoster(anyString(), anyBoolean(), any()))
+			.thenReturn(createMockRosterDTO_Found());
+		when(rosterPlayerAppService.getRosterPlayers(any(), any(), anyString()))
+			.thenReturn(createMockRosterPlayers());
+		when(rosterPlayerAppService.findByPlayerNameTeamAsOfDate(anyString(), anyString(), anyString(), any()))
+			.thenReturn(new RosterPlayer(StatusCodeDAO.NotFound));
+		when(rosterPlayerAppService.findByPlayerNameBirthdateAsOfDate(anyString(), anyString(), any(), any()))
+			.thenReturn(new RosterPlayer(StatusCodeDAO.NotFound));
+		when(playerAppService.findByPlayerNameBirthdate(anyString(), anyString(), any()))
+			.thenReturn(new Player(StatusCodeDAO.NotFound));
+		when(playerAppService.createPlayer(any()))
+			.thenReturn(createMockPlayer("Jones", "Basketball"));
+		when(rosterPlayerAppService.findByTeamKeyAsOfDate(any(), anyString()))
+			.thenReturn(createMockRosterPlayers());
+		Assert.assertTrue(rosterPlayerBusService.loadRoster("2014-10-28", "detroit-pistons").isCompleted());
+		Assert.assertTrue(rosterPlayerBusService.loadRoster("2014-10-28", "detroit-pistons").isCompleted());
+		verify(restStatsService, times(1)).retrieveRoster(anyString(), anyBoolean(), any());
+	}
+
+	@Test
+	public void loadRoster_clientErrorNotReused() {
+		when(env.getProperty("accumulator.source.roster"))
+			.thenReturn("Api");
+		when(restStatsService.retrieveRoster(anyString(), anyBoolean(), any()))
+			.thenReturn(createMockRosterDTO_StatusCode(StatusCode.NotFound));
+		Assert.assertTrue(rosterPlayerBusService.loadRoster("2014-10-28", "detroit-pistons").isClientError());
+		Assert.assertTrue(rosterPlayerBusService.loadRoster("2014-10-28", "detroit-pistons").isClientError());
+		verify(restStatsService, times(2)).retrieveRoster(anyString(), anyBoolean(), any());
+	}
+
+	@Test
+	public void loadRoster_gameBusiness_bothTeams() {
+		when(env.getProperty("accumulator.source.roster"))
+			.thenReturn("Api");
+		when(restStatsService.retrieveRoster(anyString(), anyBoolean(), any()))
+			.thenReturn(createMockRosterDTO_StatusCode(StatusCode.NotFound));
+		Game game = new Game();
+		game.setGameDateTime(LocalDateTime.of(2014, 10, 28, 20, 0));
+		GameBusiness gameBusiness = new GameBusiness(game, StatusCodeBusiness.StatusCode.RosterUpdate);
+		gameBusiness.getRosterUpdateTeams().add("detroit-pistons");
+		gameBusiness.getRosterUpdateTeams().add("brooklyn-nets");
+		gameBusiness = rosterPlayerBusService.loadRoster(gameBusiness);
+		Assert.assertTrue(gameBusiness.isClientError());
+		verify(restStatsService).retrieveRoster(eq("detroit-pistons"), anyBoolean(), any());
+		verify(restStatsService).retrieveRoster(eq("brooklyn-nets"), anyBoolean(), any());
+	}
+
+	@Test
+	public void loadRoster_gameBusiness_serverException() {
+		when(env.getProperty("accumulator.source.roster"))
+			.thenReturn("Api");
+		when(restStatsService.retrieveRoster(anyString(), anyBoolean(), any()))
+			.thenReturn(createMockRosterDTO_StatusCode(StatusCode.ServerException));
+		Game game = new Game();
+		game.setGameDateTime(LocalDateTime.of(2014, 10, 28, 20, 0));
+		GameBusiness gameBusiness = new GameBusiness(game, StatusCodeBusiness.StatusCode.RosterUpdate);
+		gameBusiness.getRosterUpdateTeams().add("detroit-pistons");
+		gameBusiness = rosterPlayerBusService.loadRoster(gameBusiness);
+		Assert.assertTrue(gameBusiness.isServerError());
+	}
+
 	private RosterDTO createMockRosterDTO_Found() {
 		RosterDTO roster;
 		try {
@@ -0,0 +1,187 @@
+package com.rossotti.basketball.business;
+
+import com.rossotti.basketball.app.service.GameAppService;
+import com.rossotti.basketball.app.service.HeadToHeadAppService;
+import com.rossotti.basketball.app.service.StandingAppService;
+import com.rossotti.basketball.business.model.StandingsBusiness;
+import com.rossotti.basketball.business.service.ScoringLock;
+import com.rossotti.basketball.business.service.SeasonStandingBusService;
+import com.rossotti.basketball.jpa.model.BoxScore;
+import com.rossotti.basketball.jpa.model.BoxScoreStats;
+import com.rossotti.basketball.jpa.model.Game;
+import com.rossotti.basketball.jpa.model.Standing;
+import com.rossotti.basketball.jpa.model.Team;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SeasonStandingBusServiceTest {
+	@Mock
+	private GameAppService gameAppService;
+
+	@Mock
+	private StandingAppService standingAppService;
+
+	@Mock
+	private HeadToHeadAppService headToHeadAppService;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private final ScoringLock scoringLock = spy(new ScoringLock());
+
+	private ThreadPoolTaskExecutor rebuildTaskExecutor;
+
+	private SeasonStandingBusService seasonStandingBusService;
+
+	private final Team jazz = createMockTeam("utah-jazz", Team.Conference.West);
+	private final Team kings = createMockTeam("sacramento-kings", Team.Conference.West);
+	private final Team celtics = createMockTeam("boston-celtics", Team.Conference.East);
+	private final Team knicks = createMockTeam("new-york-knicks", Team.Conference.East);
+
+	@Before
+	public void setUp() {
+		rebuildTaskExecutor = new ThreadPoolTaskExecutor();
+		rebuildTaskExecutor.setCorePoolSize(2);
+		rebuildTaskExecutor.initialize();
+		seasonStandingBusService = new SeasonStandingBusService(gameAppService, standingAppService, headToHeadAppService, transactionManager, scoringLock, rebuildTaskExecutor);
+	}
+
+	@After
+	public void tearDown() {
+		rebuildTaskExecutor.shutdown();
+	}
+
+	@Test
+	public void buildStandings() {
+		List<Standing> standings = seasonStandingBusService.buildStandings(createMockGames());
+		Assert.assertEquals(8, standings.size());
+		Assert.assertEquals(4, standings.stream().filter(standing -> standing.getStandingDate().equals(LocalDate.of(2016, 10, 25))).count());
+
+		Map<String, Standing> standingsMap = standings.stream()
+			.filter(standing -> standing.getStandingDate().equals(LocalDate.of(2016, 10, 27)))
+			.collect(Collectors.toMap(standing -> standing.getTeam().getTeamKey(), Function.identity()));
+		Standing standing = standingsMap.get("utah-jazz");
+		Assert.assertEquals(1, standing.getGamesWon().intValue());
+		Assert.assertEquals(1, standing.getGamesLost().intValue());
+		Assert.assertEquals(1, standing.getHomeWins().intValue());
+		Assert.assertEquals(1, standing.getHomeLosses().intValue());
+		Assert.assertEquals(1, standing.getConferenceWins().intValue());
+		Assert.assertEquals(0, standing.getConferenceLosses().intValue());
+		Assert.assertEquals("L1", standing.getStreak());
+		Assert.assertEquals("loss", standing.getStreakType());
+		Assert.assertEquals("1-1", standing.getLastFive());
+		Assert.assertEquals(188, standing.getPointsFor().intValue());
+		Assert.assertEquals(182, standing.getPointsAgainst().intValue());
+		Assert.assertEquals(94.0f, standing.getPointsScoredPerGame(), 0.0f);
+		Assert.assertEquals(0.5f, standing.getWinPercentage(), 0.0f);
+		Assert.assertEquals(1, standing.getRank().intValue());
+		Assert.assertEquals(1, standingsMap.get("sacramento-kings").getRank().intValue());
+		Assert.assertEquals("W1", standingsMap.get("sacramento-kings").getStreak());
+
+		standing = standingsMap.get("new-york-knicks");
+		Assert.assertEquals("1st", standing.getOrdinalRank());
+		Assert.assertEquals(2, standing.getAwayWins().intValue());
+		Assert.assertEquals("W2", standing.getStreak());
+		Assert.assertEquals(1, standing.getOpptGamesWon().intValue());
+		Assert.assertEquals(2, standing.getOpptGamesPlayed().intValue());
+
+		standing = standingsMap.get("boston-celtics");
+		Assert.assertEquals("2nd", standing.getOrdinalRank());
+		Assert.assertEquals(2.0f, standing.getGamesBack(), 0.0f);
+	}
+
+	@Test
+	public void rebuildSeasons() {
+		when(gameAppService.findByDateRange(any(), any()))
+			.thenAnswer(invocation -> LocalDate.of(2016, 7, 1).equals(invocation.getArgument(0)) ? createMockGames() : new ArrayList<>());
+		List<StandingsBusiness> seasons = seasonStandingBusService.rebuildSeasons(Arrays.asList(LocalDate.of(2016, 11, 5), LocalDate.of(2015, 11, 5)));
+		Assert.assertEquals(2, seasons.size());
+		Assert.assertTrue(seasons.get(0).isCompleted());
+		Assert.assertEquals(8, seasons.get(0).getStandings().size());
+		Assert.assertTrue(seasons.get(1).isClientError());
+		verify(standingAppService).deleteStandings(LocalDate.of(2016, 7, 1), LocalDate.of(2017, 6, 30));
+		verify(standingAppService).createStandings(anyList());
+		verify(headToHeadAppService).rebuildSeason(LocalDate.of(2016, 11, 5));
+		verify(scoringLock, never()).ranking(any());
+	}
+
+	@Test
+	public void rebuildSeason_currentSeason() {
+		when(gameAppService.findByDateRange(any(), any()))
+			.thenReturn(createMockGames());
+		StandingsBusiness season = seasonStandingBusService.rebuildSeason(LocalDate.now());
+		Assert.assertTrue(season.isCompleted());
+		verify(scoringLock).ranking(any());
+	}
+
+	@Test
+	public void rebuildSeason_serverError() {
+		when(gameAppService.findByDateRange(any(), any()))
+			.thenReturn(createMockGames());
+		when(standingAppService.createStandings(anyList()))
+			.thenThrow(new IllegalStateException("Unable to create standing"));
+		StandingsBusiness season = seasonStandingBusService.rebuildSeason(LocalDate.of(2016, 11, 5));
+		Assert.assertTrue(season.isServerError());
+	}
+
+	private List<Game> createMockGames() {
+		return new ArrayList<>(Arrays.asList(
+			createMockGame(LocalDateTime.of(2016, 10, 27, 19, 0), jazz, 88, knicks, 92),
+			createMockGame(LocalDateTime.of(2016, 10, 25, 19, 0), jazz, 100, kings, 90),
+			createMockGame(LocalDateTime.of(2016, 10, 25, 20, 0), celtics, 95, knicks, 99),
+			createMockGame(LocalDateTime.of(2016, 10, 27, 20, 0), kings, 101, celtics, 98)
+		));
+	}
+
+	private Game createMockGame(LocalDateTime gameDateTime, Team homeTeam, int homePoints, Team awayTeam, int awayPoints) {
+		Game game = new Game();
+		game.setGameDateTime(gameDateTime);
+		game.setStatus(Game.GameStatus.Completed);
+		game.addBoxScore(createMockBoxScore(game, homeTeam, BoxScore.Location.Home, homePoints, homePoints > awayPoints));
+		game.addBoxScore(createMockBoxScore(game, awayTeam, BoxScore.Location.Away, awayPoints, awayPoints > homePoints));
+		return game;
+	}
+
+	private BoxScore createMockBoxScore(Game game, Team team, BoxScore.Location location, int points, boolean won) {
+		BoxScore boxScore = new BoxScore();
+		boxScore.setGame(game);
+		boxScore.setTeam(team);
+		boxScore.setLocation(location);
+		boxScore.setResult(won ? BoxScore.Result.Win : BoxScore.Result.Loss);
+		BoxScoreStats boxScoreStats = new BoxScoreStats();
+		boxScoreStats.setPoints((short) points);
+		boxScore.setBoxScoreStats(boxScoreStats);
+		return boxScore;
+	}
+
+	private Team createMockTeam(String teamKey, Team.Conference conference) {
+		Team team = new Team();
+		team.setTeamKey(teamKey);
+		team.setConference(conference);
+		return team;
+	}
+}
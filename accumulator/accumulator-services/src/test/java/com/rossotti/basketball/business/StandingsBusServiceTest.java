@@ -2,8 +2,10 @@ package com.rossotti.basketball.business;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rossotti.basketball.app.model.StandingRecord;
+import com.rossotti.basketball.app.service.HeadToHeadAppService;
 import com.rossotti.basketball.app.service.StandingAppService;
 import com.rossotti.basketball.business.model.StandingsBusiness;
+import com.rossotti.basketball.business.service.ScoringLock;
 import com.rossotti.basketball.business.service.StandingBusService;
 import com.rossotti.basketball.client.dto.StandingDTO;
 import com.rossotti.basketball.client.dto.StandingsDTO;
@@ -17,21 +19,29 @@ import com.rossotti.basketball.jpa.model.Team;
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.core.env.Environment;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -48,6 +58,15 @@ public class StandingsBusServiceTest {
 	@Mock
 	private StandingAppService standingAppService;
 
+	@Mock
+	private HeadToHeadAppService headToHeadAppService;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Spy
+	private ScoringLock scoringLock = new ScoringLock();
+
 	@InjectMocks
 	private StandingBusService standingsBusinessService;
 
@@ -95,8 +114,6 @@ public class StandingsBusServiceTest {
 	public void restClientService_standingsNotFound() {
 		when(env.getProperty("accumulator.source.standings"))
 			.thenReturn("Api");
-		when(env.getProperty("sleep.duration"))
-			.thenReturn("0");
 		when(restStatsService.retrieveStandings(anyString(), anyBoolean()))
 			.thenReturn(createMockStandingsDTO_StatusCode(StatusCode.NotFound));
 		StandingsBusiness standings = standingsBusinessService.rankStandings("2014-10-28");
@@ -107,8 +124,6 @@ public class StandingsBusServiceTest {
 	public void restClientService_clientException() {
 		when(env.getProperty("accumulator.source.standings"))
 			.thenReturn("Api");
-		when(env.getProperty("sleep.duration"))
-			.thenReturn("0");
 		when(restStatsService.retrieveStandings(anyString(), anyBoolean()))
 			.thenReturn(createMockStandingsDTO_StatusCode(StatusCode.ClientException));
 		StandingsBusiness standings = standingsBusinessService.rankStandings("2014-10-28");
@@ -119,8 +134,6 @@ public class StandingsBusServiceTest {
 	public void restClientService_emptyList() {
 		when(env.getProperty("accumulator.source.standings"))
 			.thenReturn("Api");
-		when(env.getProperty("sleep.duration"))
-			.thenReturn("0");
 		when(restStatsService.retrieveStandings(anyString(), anyBoolean()))
 			.thenReturn(createMockStandingsDTO_StatusCode(StatusCode.Found));
 		StandingsBusiness standings = standingsBusinessService.rankStandings("2014-10-28");
@@ -131,8 +144,6 @@ public class StandingsBusServiceTest {
 	public void standingsService_noSuchEntity_team() {
 		when(env.getProperty("accumulator.source.standings"))
 			.thenReturn("Api");
-		when(env.getProperty("sleep.duration"))
-			.thenReturn("0");
 		when(restStatsService.retrieveStandings(anyString(), anyBoolean()))
 			.thenReturn(createStandingsDTO_Found());
 		when(standingAppService.getStandings(any()))
@@ -142,47 +153,78 @@ public class StandingsBusServiceTest {
 	}
 
 	@Test
-	public void standingsService_createStanding_exists() {
+	public void standingsService_createStanding_created() {
 		when(env.getProperty("accumulator.source.standings"))
 			.thenReturn("Api");
-		when(env.getProperty("sleep.duration"))
-			.thenReturn("0");
 		when(restStatsService.retrieveStandings(anyString(), anyBoolean()))
 			.thenReturn(createStandingsDTO_Found());
 		when(standingAppService.getStandings(any()))
 			.thenReturn(createMockStandings());
-		when(standingAppService.buildStandingsMap(any(), any()))
-			.thenReturn(createMockStandingsMap());
-		when(standingAppService.buildHeadToHeadMap(anyString(), any(), any()))
-			.thenReturn(createMockHeadToHeadMap());
-		when(standingAppService.calculateStrengthOfSchedule(anyString(), any(), any(), any()))
-			.thenReturn(new StandingRecord(5, 10, 20, 40));
-		when(standingAppService.createStanding(any()))
-			.thenReturn(createMockStanding_StatusCode(StatusCodeDAO.Found));
+		when(headToHeadAppService.calculateStrengthOfSchedule(anyList(), any()))
+			.thenReturn(null);
+		when(standingAppService.calculateStrengthOfSchedule(anyList(), any()))
+			.thenReturn(createMockStrengthOfScheduleMap());
+		when(standingAppService.createStandings(anyList()))
+			.thenReturn(Collections.singletonList(createMockStanding_StatusCode(StatusCodeDAO.Created)));
 		StandingsBusiness standings = standingsBusinessService.rankStandings("2014-10-28");
-		Assert.assertTrue(standings.isServerError());
+		Assert.assertTrue(standings.isCompleted());
+		verify(standingAppService).deleteStandings(LocalDate.of(2014, 10, 28), LocalDate.of(2014, 10, 28));
 	}
 
 	@Test
-	public void standingsService_createStanding_created() {
+	public void localStandings_created() {
 		when(env.getProperty("accumulator.source.standings"))
-			.thenReturn("Api");
-		when(env.getProperty("sleep.duration"))
-			.thenReturn("0");
-		when(restStatsService.retrieveStandings(anyString(), anyBoolean()))
+			.thenReturn("Local");
+		when(env.getProperty("accumulator.standings.crossCheck", ""))
+			.thenReturn("");
+		when(standingAppService.calculateStandings(any()))
+			.thenReturn(createMockLocalStandings());
+		when(standingAppService.createStandings(anyList()))
+			.thenReturn(Collections.singletonList(createMockStanding_StatusCode(StatusCodeDAO.Created)));
+		StandingsBusiness standings = standingsBusinessService.rankStandings("2014-10-28");
+		Assert.assertTrue(standings.isCompleted());
+		verify(fileStatsService, never()).retrieveStandings(anyString());
+		verify(restStatsService, never()).retrieveStandings(anyString(), anyBoolean());
+	}
+
+	@Test
+	public void rerankStandings_laterDates() {
+		when(env.getProperty("accumulator.source.standings"))
+			.thenReturn("Local");
+		when(env.getProperty("accumulator.standings.crossCheck", ""))
+			.thenReturn("");
+		when(standingAppService.findStandingDates(any(), any()))
+			.thenReturn(Arrays.asList(LocalDate.of(2014, 10, 29), LocalDate.of(2014, 10, 31)));
+		when(standingAppService.calculateStandings(any()))
+			.thenReturn(createMockLocalStandings());
+		when(standingAppService.createStandings(anyList()))
+			.thenReturn(Collections.singletonList(createMockStanding_StatusCode(StatusCodeDAO.Created)));
+		List<StandingsBusiness> standings = standingsBusinessService.rerankStandings("2014-10-28");
+		Assert.assertEquals(3, standings.size());
+		Assert.assertTrue(standings.stream().allMatch(StandingsBusiness::isCompleted));
+		InOrder inOrder = inOrder(standingAppService);
+		inOrder.verify(standingAppService).calculateStandings(LocalDate.of(2014, 10, 28));
+		inOrder.verify(standingAppService).calculateStandings(LocalDate.of(2014, 10, 29));
+		inOrder.verify(standingAppService).calculateStandings(LocalDate.of(2014, 10, 31));
+	}
+
+	@Test
+	public void localStandings_crossCheck() {
+		when(env.getProperty("accumulator.source.standings"))
+			.thenReturn("Local");
+		when(env.getProperty("accumulator.standings.crossCheck", ""))
+			.thenReturn("File");
+		when(fileStatsService.retrieveStandings(anyString()))
 			.thenReturn(createStandingsDTO_Found());
-		when(standingAppService.getStandings(any()))
-			.thenReturn(createMockStandings());
-		when(standingAppService.buildStandingsMap(any(), any()))
-			.thenReturn(createMockStandingsMap());
-		when(standingAppService.buildHeadToHeadMap(anyString(), any(), any()))
-			.thenReturn(createMockHeadToHeadMap());
-		when(standingAppService.calculateStrengthOfSchedule(anyString(), any(), any(), any()))
-			.thenReturn(new StandingRecord(5, 10, 20, 40));
-		when(standingAppService.createStanding(any()))
-			.thenReturn(createMockStanding_StatusCode(StatusCodeDAO.Created));
+		when(standingAppService.calculateStandings(any()))
+			.thenReturn(createMockLocalStandings());
+		when(standingAppService.compareStandings(anyList(), any()))
+			.thenReturn(1);
+		when(standingAppService.createStandings(anyList()))
+			.thenReturn(Collections.singletonList(createMockStanding_StatusCode(StatusCodeDAO.Created)));
 		StandingsBusiness standings = standingsBusinessService.rankStandings("2014-10-28");
 		Assert.assertTrue(standings.isCompleted());
+		verify(standingAppService).compareStandings(anyList(), any());
 	}
 
 	private StandingsDTO createStandingsDTO_Found() {
@@ -212,6 +254,17 @@ public class StandingsBusServiceTest {
 		return standings;
 	}
 
+	private List<Standing> createMockLocalStandings() {
+		List<Standing> standings = createMockStandings();
+		for (Standing standing : standings) {
+			standing.setOpptGamesWon(5);
+			standing.setOpptGamesPlayed(10);
+			standing.setOpptOpptGamesWon(20);
+			standing.setOpptOpptGamesPlayed(40);
+		}
+		return standings;
+	}
+
 	private Standing createMockStanding() {
 		Standing standing = new Standing();
 		standing.setTeam(createMockTeam());
@@ -225,16 +278,10 @@ public class StandingsBusServiceTest {
 		return team;
 	}
 
-	private Map<String, StandingRecord> createMockStandingsMap() {
-		Map<String, StandingRecord> standingsMap = new HashMap<>();
-		standingsMap.put("cleveland-cavaliers", new StandingRecord(5, 10, 0, 0));
-		return standingsMap;
-	}
-
-	private Map<String, StandingRecord> createMockHeadToHeadMap() {
-		Map<String, StandingRecord> standingsMap = new HashMap<>();
-		standingsMap.put("cleveland-cavaliers", new StandingRecord(5, 10, 0, 0));
-		return standingsMap;
+	private Map<String, StandingRecord> createMockStrengthOfScheduleMap() {
+		Map<String, StandingRecord> strengthOfScheduleMap = new HashMap<>();
+		strengthOfScheduleMap.put("cleveland-cavaliers", new StandingRecord(5, 10, 20, 40));
+		return strengthOfScheduleMap;
 	}
 
 	private Standing createMockStanding_StatusCode(StatusCodeDAO status) {
@@ -0,0 +1,60 @@
+package com.rossotti.basketball.client.service;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class RateLimiterServiceTest {
+
+	@Test
+	public void reserve_burst() {
+		RateLimiterService rateLimiterService = new RateLimiterService(60, 3);
+		long now = System.nanoTime();
+		Assert.assertEquals(0, rateLimiterService.reserve(now));
+		Assert.assertEquals(0, rateLimiterService.reserve(now));
+		Assert.assertEquals(0, rateLimiterService.reserve(now));
+		Assert.assertEquals(TimeUnit.SECONDS.toNanos(1), rateLimiterService.reserve(now));
+		Assert.assertEquals(TimeUnit.SECONDS.toNanos(2), rateLimiterService.reserve(now));
+	}
+
+	@Test
+	public void reserve_refill() {
+		RateLimiterService rateLimiterService = new RateLimiterService(60, 1);
+		long now = System.nanoTime();
+		Assert.assertEquals(0, rateLimiterService.reserve(now));
+		Assert.assertEquals(TimeUnit.SECONDS.toNanos(1), rateLimiterService.reserve(now));
+		Assert.assertEquals(0, rateLimiterService.reserve(now + TimeUnit.SECONDS.toNanos(3)));
+	}
+
+	@Test
+	public void acquire_metrics() {
+		RateLimiterService rateLimiterService = new RateLimiterService(6000, 2);
+		rateLimiterService.acquire();
+		rateLimiterService.acquire();
+		rateLimiterService.acquire();
+		Assert.assertEquals(3, rateLimiterService.getPermitsAcquired());
+		Assert.assertTrue(rateLimiterService.getWaitTime(TimeUnit.MILLISECONDS) <= 10);
+	}
+
+	@Test
+	public void acquire_interrupted() {
+		RateLimiterService rateLimiterService = new RateLimiterService(1, 1);
+		rateLimiterService.acquire();
+		Thread.currentThread().interrupt();
+		try {
+			rateLimiterService.acquire();
+			Assert.fail("IllegalStateException expected");
+		}
+		catch (IllegalStateException ise) {
+			Assert.assertTrue(Thread.interrupted());
+		}
+		Assert.assertEquals(1, rateLimiterService.getPermitsAcquired());
+		Assert.assertEquals(TimeUnit.MINUTES.toNanos(1), rateLimiterService.reserve(System.nanoTime()), TimeUnit.SECONDS.toNanos(1));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidRate() {
+		new RateLimiterService(0, 1);
+	}
+}
@@ -35,6 +35,9 @@ public class RestStatsServiceTest {
 	@Mock
 	private FileService fileService;
 
+	@Mock
+	private RateLimiterService rateLimiterService;
+
 	@InjectMocks
 	private RestStatsService restStatsService;
 
@@ -0,0 +1,105 @@
+package com.rossotti.basketball.integration;
+
+import com.rossotti.basketball.business.service.BoxScoreBusService;
+import com.rossotti.basketball.client.service.RateLimiterService;
+import com.rossotti.basketball.jpa.model.Game;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.integration.aggregator.AggregatingMessageHandler;
+import org.springframework.integration.aggregator.DefaultAggregatingMessageGroupProcessor;
+import org.springframework.integration.channel.QueueChannel;
+import org.springframework.integration.store.SimpleMessageGroup;
+import org.springframework.integration.store.SimpleMessageStore;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.Message;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class GameReleaseStrategyTest {
+	private final GameReleaseStrategy gameReleaseStrategy = new GameReleaseStrategy();
+	private final GameCorrelationStrategy gameCorrelationStrategy = new GameCorrelationStrategy();
+
+	@Test
+	public void canRelease_partial() {
+		Assert.assertFalse(gameReleaseStrategy.canRelease(createMessageGroup(2, 3)));
+	}
+
+	@Test
+	public void canRelease_complete() {
+		Assert.assertTrue(gameReleaseStrategy.canRelease(createMessageGroup(3, 3)));
+	}
+
+	@Test
+	public void getCorrelationKey_found() {
+		Assert.assertEquals("request-1", gameCorrelationStrategy.getCorrelationKey(createMessage(1, 3)));
+	}
+
+	@Test
+	public void aggregate_splitDate_oneGroup() {
+		GameSplitter gameSplitter = new GameSplitter(mock(BoxScoreBusService.class), createPipelineMetrics());
+		List<Message<?>> messages = gameSplitter.splitMessage(Arrays.asList(
+			createGame(LocalDateTime.of(2015, 10, 27, 20, 0)),
+			createGame(LocalDateTime.of(2015, 10, 27, 20, 30)),
+			createGame(LocalDateTime.of(2015, 10, 27, 21, 0))
+		));
+		QueueChannel outputChannel = new QueueChannel();
+		AggregatingMessageHandler handler = new AggregatingMessageHandler(new DefaultAggregatingMessageGroupProcessor(), new SimpleMessageStore(), gameCorrelationStrategy, gameReleaseStrategy);
+		handler.setOutputChannel(outputChannel);
+		handler.setBeanFactory(mock(BeanFactory.class));
+		handler.afterPropertiesSet();
+		for (Message<?> message : messages) {
+			handler.handleMessage(message);
+		}
+		Message<?> released = outputChannel.receive(0);
+		Assert.assertNotNull(released);
+		Assert.assertEquals(3, ((List<?>) released.getPayload()).size());
+		Assert.assertNull(outputChannel.receive(0));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void getCorrelationKey_missing() {
+		gameCorrelationStrategy.getCorrelationKey(MessageBuilder.withPayload("game").build());
+	}
+
+	@SuppressWarnings("unchecked")
+	private PipelineMetrics createPipelineMetrics() {
+		ObjectProvider<MeterRegistry> meterRegistryProvider = mock(ObjectProvider.class);
+		when(meterRegistryProvider.getIfAvailable(any()))
+			.thenReturn(new SimpleMeterRegistry());
+		return new PipelineMetrics(meterRegistryProvider, mock(ListableBeanFactory.class), new RateLimiterService(60, 1));
+	}
+
+	private SimpleMessageGroup createMessageGroup(int count, int sequenceSize) {
+		List<Message<?>> messages = new ArrayList<>();
+		for (int i = 1; i <= count; i++) {
+			messages.add(createMessage(i, sequenceSize));
+		}
+		return new SimpleMessageGroup(messages, "request-1");
+	}
+
+	private Game createGame(LocalDateTime gameDateTime) {
+		Game game = new Game();
+		game.setGameDateTime(gameDateTime);
+		return game;
+	}
+
+	private Message<?> createMessage(int sequenceNumber, int sequenceSize) {
+		return MessageBuilder.withPayload("game")
+			.setCorrelationId("request-1")
+			.setSequenceNumber(sequenceNumber)
+			.setSequenceSize(sequenceSize)
+			.build();
+	}
+}
@@ -0,0 +1,70 @@
+package com.rossotti.basketball.integration;
+
+import com.rossotti.basketball.business.model.GameBusiness;
+import com.rossotti.basketball.business.model.StandingsBusiness;
+import com.rossotti.basketball.business.model.StatusCodeBusiness.StatusCode;
+import com.rossotti.basketball.business.service.StandingBusService;
+import com.rossotti.basketball.jpa.model.BoxScore;
+import com.rossotti.basketball.jpa.model.BoxScore.Location;
+import com.rossotti.basketball.jpa.model.Game;
+import com.rossotti.basketball.jpa.model.Team;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GameRetryActivatorTest {
+	@Mock
+	private StandingBusService standingBusService;
+
+	@Mock
+	private PipelineMetrics pipelineMetrics;
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void retryGame_completed() {
+		when(pipelineMetrics.time(anyString(), any(Supplier.class)))
+			.thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get());
+		when(standingBusService.rerankStandings(anyString()))
+			.thenReturn(Arrays.asList(new StandingsBusiness(), new StandingsBusiness()));
+		new GameRetryActivator(standingBusService, pipelineMetrics).retryGame(new GameBusiness(createMockGame(), StatusCode.Completed));
+		verify(standingBusService).rerankStandings(eq("2016-10-27"));
+		verify(standingBusService, never()).rankStandings(anyString());
+	}
+
+	@Test
+	public void retryGame_clientError() {
+		new GameRetryActivator(standingBusService, pipelineMetrics).retryGame(new GameBusiness(createMockGame(), StatusCode.ClientError));
+		verify(standingBusService, never()).rerankStandings(anyString());
+	}
+
+	private Game createMockGame() {
+		Game game = new Game();
+		game.setGameDateTime(LocalDateTime.of(2016, 10, 27, 20, 0));
+		Team teamHome = new Team();
+		teamHome.setAbbr("CHI");
+		BoxScore boxScoreHome = new BoxScore();
+		boxScoreHome.setLocation(Location.Home);
+		boxScoreHome.setTeam(teamHome);
+		game.addBoxScore(boxScoreHome);
+		Team teamAway = new Team();
+		teamAway.setAbbr("DET");
+		BoxScore boxScoreAway = new BoxScore();
+		boxScoreAway.setLocation(Location.Away);
+		boxScoreAway.setTeam(teamAway);
+		game.addBoxScore(boxScoreAway);
+		return game;
+	}
+}
@@ -0,0 +1,61 @@
+package com.rossotti.basketball.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rossotti.basketball.business.model.GameBusiness;
+import com.rossotti.basketball.business.model.StatusCodeBusiness.StatusCode;
+import com.rossotti.basketball.client.dto.GameDTO;
+import com.rossotti.basketball.jpa.model.BoxScore;
+import com.rossotti.basketball.jpa.model.BoxScore.Location;
+import com.rossotti.basketball.jpa.model.Game;
+import com.rossotti.basketball.jpa.model.Game.GameStatus;
+import com.rossotti.basketball.jpa.model.Team;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.SerializationUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+
+public class MessageStoreSerializationTest {
+	private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+	@Test
+	public void gameBusiness_roundTrip() throws IOException {
+		GameBusiness gameBusiness = new GameBusiness(createMockGame(), StatusCode.RosterUpdate);
+		gameBusiness.setGameDTO(createMockGameDTO());
+		gameBusiness.getRosterUpdateTeams().add("detroit-pistons");
+
+		GameBusiness restored = (GameBusiness) SerializationUtils.deserialize(SerializationUtils.serialize(gameBusiness));
+
+		Assert.assertTrue(restored.isRosterUpdate());
+		Assert.assertEquals("detroit-pistons", restored.getRosterUpdateTeams().get(0));
+		Assert.assertEquals("brooklyn-nets", restored.getGame().getBoxScoreHome().getTeam().getTeamKey());
+		Assert.assertEquals(gameBusiness.getGameDTO().home_stats.length, restored.getGameDTO().home_stats.length);
+	}
+
+	private Game createMockGame() {
+		Game game = new Game();
+		game.setGameDateTime(LocalDateTime.of(2015, 11, 26, 10, 0));
+		game.setStatus(GameStatus.Scheduled);
+		Team teamHome = new Team();
+		teamHome.setTeamKey("brooklyn-nets");
+		BoxScore boxScoreHome = new BoxScore();
+		boxScoreHome.setLocation(Location.Home);
+		boxScoreHome.setTeam(teamHome);
+		game.addBoxScore(boxScoreHome);
+		Team teamAway = new Team();
+		teamAway.setTeamKey("detroit-pistons");
+		BoxScore boxScoreAway = new BoxScore();
+		boxScoreAway.setLocation(Location.Away);
+		boxScoreAway.setTeam(teamAway);
+		game.addBoxScore(boxScoreAway);
+		return game;
+	}
+
+	private GameDTO createMockGameDTO() throws IOException {
+		InputStream baseJson = this.getClass().getClassLoader().getResourceAsStream("mockClient/gameClient.json");
+		return objectMapper.readValue(baseJson, GameDTO.class);
+	}
+}
@@ -0,0 +1,67 @@
+package com.rossotti.basketball.integration;
+
+import com.rossotti.basketball.business.model.StatusCodeBusiness.StatusCode;
+import com.rossotti.basketball.client.service.RateLimiterService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PipelineMetricsTest {
+	@Mock
+	private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+	@Mock
+	private ListableBeanFactory beanFactory;
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private PipelineMetrics pipelineMetrics;
+
+	@Before
+	public void setUp() {
+		when(meterRegistryProvider.getIfAvailable(any()))
+			.thenReturn(meterRegistry);
+		pipelineMetrics = new PipelineMetrics(meterRegistryProvider, beanFactory, new RateLimiterService(60, 1));
+	}
+
+	@Test
+	public void time_stage() {
+		String result = pipelineMetrics.time("gameScorer", () -> "scored");
+		Assert.assertEquals("scored", result);
+		Assert.assertEquals(1, meterRegistry.get("accumulator.pipeline.stage").tag("stage", "gameScorer").timer().count());
+	}
+
+	@Test
+	public void elapsed_stage() {
+		pipelineMetrics.elapsed("gameRelease", System.currentTimeMillis() - 1000);
+		Assert.assertEquals(1, meterRegistry.get("accumulator.pipeline.stage").tag("stage", "gameRelease").timer().count());
+		Assert.assertTrue(meterRegistry.get("accumulator.pipeline.stage").tag("stage", "gameRelease").timer().totalTime(TimeUnit.MILLISECONDS) >= 1000);
+	}
+
+	@Test
+	public void count_statusCode() {
+		pipelineMetrics.count("gameAggregator", StatusCode.Completed);
+		pipelineMetrics.count("gameAggregator", StatusCode.Completed);
+		pipelineMetrics.count("gameAggregator", StatusCode.ClientError);
+		Assert.assertEquals(2.0, meterRegistry.get("accumulator.pipeline.games").tag("statusCode", "Completed").counter().count(), 0.0);
+		Assert.assertEquals(1.0, meterRegistry.get("accumulator.pipeline.games").tag("statusCode", "ClientError").counter().count(), 0.0);
+	}
+
+	@Test
+	public void queueSize_noChannel() {
+		Assert.assertEquals(0.0, meterRegistry.get("accumulator.pipeline.queue.size").gauge().value(), 0.0);
+	}
+}
@@ -0,0 +1,84 @@
+package com.rossotti.basketball.jpa.repository;
+
+import com.rossotti.basketball.jpa.model.BoxScore;
+import com.rossotti.basketball.jpa.model.Game;
+import com.rossotti.basketball.util.DateTimeConverter;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.util.List;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = com.rossotti.basketball.config.ServiceConfig.class)
+public class GameRepositoryFetchTest {
+
+	private GameRepository gameRepository;
+
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@Autowired
+	public void setGameRepository(GameRepository gameRepository) {
+		this.gameRepository = gameRepository;
+	}
+
+	@Autowired
+	public void setEntityManagerFactory(EntityManagerFactory entityManagerFactory) {
+		this.entityManagerFactory = entityManagerFactory;
+	}
+
+	@Before
+	public void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+		statistics.clear();
+	}
+
+	@After
+	public void tearDown() {
+		statistics.setStatisticsEnabled(false);
+	}
+
+	@Test
+	public void findByFromDateAndToDate_SingleStatement() {
+		List<Game> games = gameRepository.findByFromDateAndToDate(DateTimeConverter.getLocalDateTimeMin(LocalDate.of(2015, 10, 27)), DateTimeConverter.getLocalDateTimeMax(LocalDate.of(2015, 10, 27)));
+		Assert.assertEquals(3, games.size());
+		walkTeams(games);
+		Assert.assertEquals(1, statistics.getPrepareStatementCount());
+	}
+
+	@Test
+	public void findByTeamKeyAndFromDateAndToDateSeason_SingleStatement() {
+		List<Game> games = gameRepository.findByTeamKeyAndFromDateAndToDateSeason("baltimore-bullets", DateTimeConverter.getLocalDateTimeSeasonMin(LocalDate.of(2015, 10, 30)), DateTimeConverter.getLocalDateTimeSeasonMax(LocalDate.of(2015, 10, 27)));
+		Assert.assertEquals(3, games.size());
+		walkTeams(games);
+		Assert.assertEquals(1, statistics.getPrepareStatementCount());
+	}
+
+	@Test
+	public void findByTeamKeyAndFromDateAndToDate_SingleStatement() {
+		Game game = gameRepository.findByTeamKeyAndFromDateAndToDate("chicago-zephyr's", DateTimeConverter.getLocalDateTimeMin(LocalDate.of(2015, 10, 27)), DateTimeConverter.getLocalDateTimeMax(LocalDate.of(2015, 10, 27)));
+		Assert.assertEquals("Harlem Globetrotter's", game.getBoxScoreAway().getTeam().getFullName());
+		Assert.assertEquals(2, game.getBoxScores().size());
+		Assert.assertEquals(1, statistics.getPrepareStatementCount());
+	}
+
+	private void walkTeams(List<Game> games) {
+		for (Game game : games) {
+			for (BoxScore boxScore : game.getBoxScores()) {
+				Assert.assertNotNull(boxScore.getTeam().getTeamKey());
+			}
+		}
+	}
+}
@@ -0,0 +1,133 @@
+package com.rossotti.basketball.jpa.repository;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.hql.internal.ast.ASTQueryTranslatorFactory;
+import org.hibernate.hql.spi.QueryTranslator;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.StringJoiner;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = com.rossotti.basketball.config.ServiceConfig.class)
+public class RepositoryQueryPlanTest {
+
+	private static final List<Class<?>> repositories = Arrays.asList(GameRepository.class, HeadToHeadRepository.class,
+		OfficialRepository.class, PlayerRepository.class, RosterPlayerRepository.class, StandingRepository.class, TeamRepository.class);
+
+	private EntityManagerFactory entityManagerFactory;
+
+	private DataSource dataSource;
+
+	@Autowired
+	public void setEntityManagerFactory(EntityManagerFactory entityManagerFactory) {
+		this.entityManagerFactory = entityManagerFactory;
+	}
+
+	@Autowired
+	public void setDataSource(DataSource dataSource) {
+		this.dataSource = dataSource;
+	}
+
+	@Test
+	public void repositoryQueries_NoTableScan() throws Exception {
+		SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+		List<String> tableScans = new ArrayList<>();
+		int queries = 0;
+		for (Class<?> repository : repositories) {
+			for (Field field : repository.getDeclaredFields()) {
+				//bulk delete and update statements cannot be explained as queries
+				if (field.getType() != String.class || isBulkStatement((String) field.get(null))) {
+					continue;
+				}
+				String plan = explain(toSql(sessionFactory, (String) field.get(null)));
+				if (plan.contains(".tableScan")) {
+					tableScans.add(repository.getSimpleName() + "." + field.getName() + ": " + plan);
+				}
+				queries++;
+			}
+			//derived finders, findAll reads the whole table by design
+			for (Method method : repository.getDeclaredMethods()) {
+				if (method.isAnnotationPresent(Query.class) || !method.getName().startsWith("find") || method.getName().equals("findAll")) {
+					continue;
+				}
+				String plan = explain(toSql(sessionFactory, toJpql(getDomainClass(repository), method.getName())));
+				if (plan.contains(".tableScan")) {
+					tableScans.add(repository.getSimpleName() + "." + method.getName() + ": " + plan);
+				}
+				queries++;
+			}
+		}
+		Assert.assertTrue(queries > 0);
+		Assert.assertTrue("table scans: " + tableScans, tableScans.isEmpty());
+	}
+
+	private boolean isBulkStatement(String jpql) {
+		String statement = jpql.trim().toLowerCase();
+		return statement.startsWith("delete") || statement.startsWith("update");
+	}
+
+	private Class<?> getDomainClass(Class<?> repository) {
+		return (Class<?>) ((ParameterizedType) repository.getGenericInterfaces()[0]).getActualTypeArguments()[0];
+	}
+
+	//the query Spring Data derives from the method name, equality criteria only
+	private String toJpql(Class<?> domainClass, String methodName) {
+		PartTree partTree = new PartTree(methodName, domainClass);
+		StringJoiner where = new StringJoiner(" or ");
+		int position = 1;
+		for (PartTree.OrPart orPart : partTree) {
+			StringJoiner and = new StringJoiner(" and ");
+			for (Part part : orPart) {
+				Assert.assertEquals(methodName, Part.Type.SIMPLE_PROPERTY, part.getType());
+				and.add("x." + part.getProperty().toDotPath() + " = ?" + position++);
+			}
+			where.add(and.toString());
+		}
+		return "select x from " + domainClass.getSimpleName() + " x where " + where;
+	}
+
+	private String toSql(SessionFactoryImplementor sessionFactory, String jpql) {
+		QueryTranslator queryTranslator = new ASTQueryTranslatorFactory()
+			.createQueryTranslator(jpql, jpql, Collections.emptyMap(), sessionFactory, null);
+		queryTranslator.compile(Collections.emptyMap(), false);
+		return queryTranslator.getSQLString();
+	}
+
+	private String explain(String sql) throws SQLException {
+		try (Connection connection = dataSource.getConnection();
+			 PreparedStatement statement = connection.prepareStatement("explain " + sql)) {
+			int parameters = statement.getParameterMetaData().getParameterCount();
+			for (int i = 1; i <= parameters; i++) {
+				statement.setObject(i, null);
+			}
+			StringBuilder plan = new StringBuilder();
+			try (ResultSet resultSet = statement.executeQuery()) {
+				while (resultSet.next()) {
+					plan.append(resultSet.getString(1));
+				}
+			}
+			return plan.toString();
+		}
+	}
+}
@@ -0,0 +1,49 @@
+package com.rossotti.basketball.jpa.repository;
+
+import com.rossotti.basketball.jpa.model.Team;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = com.rossotti.basketball.config.ServiceConfig.class)
+@TestPropertySource(properties = {"hibernate.cache.enabled=true", "db.url=jdbc:h2:mem:cache;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"})
+@DirtiesContext
+public class TeamRepositoryCacheTest {
+
+	private TeamRepository teamRepository;
+
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	public void setTeamRepository(TeamRepository teamRepository) {
+		this.teamRepository = teamRepository;
+	}
+
+	@Autowired
+	public void setEntityManagerFactory(EntityManagerFactory entityManagerFactory) {
+		this.entityManagerFactory = entityManagerFactory;
+	}
+
+	@Test
+	public void findByTeamKeyAndFromDateAndToDate_Cached() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		Team team = teamRepository.findByTeamKeyAndFromDateAndToDate("harlem-globetrotter's", LocalDate.of(2009, 7, 1), LocalDate.of(2009, 7, 1));
+		teamRepository.findByTeamKeyAndFromDateAndToDate("harlem-globetrotter's", LocalDate.of(2009, 7, 1), LocalDate.of(2009, 7, 1));
+		Assert.assertEquals("Harlem Globetrotter's", team.getFullName());
+		Assert.assertTrue(entityManagerFactory.getCache().contains(Team.class, team.getId()));
+		Assert.assertEquals(1, statistics.getQueryCacheMissCount());
+		Assert.assertEquals(1, statistics.getQueryCacheHitCount());
+	}
+}
@@ -9,9 +9,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @RunWith(SpringRunner.class)
@@ -182,6 +184,38 @@ public class GameJpaServiceTest {
 		gameJpaService.update(updateMockGame(LocalDateTime.of(2015, 1, 7, 19, 0), "utah-jazz", null));
 	}
 
+	@Test
+	@Transactional
+	public void complete_Updated() {
+		Game game = gameJpaService.findByTeamKeyAndAsOfDate("chicago-bulls", LocalDate.of(2015, 1, 8));
+		game.setStatus(Game.GameStatus.Completed);
+		game.setGameOfficials(new ArrayList<>());
+		game.addGameOfficial(createMockGameOfficial(game, 1L, "LateCall", "Joe"));
+		updateMockBoxScoreHome(game.getBoxScoreHome());
+		updateMockBoxScoreAway(game.getBoxScoreAway());
+		Game completeGame = gameJpaService.complete(game);
+		Game findGame = gameJpaService.findByTeamKeyAndAsOfDate("chicago-bulls", LocalDate.of(2015, 1, 8));
+		Assert.assertTrue(completeGame.isUpdated());
+		Assert.assertEquals(Game.GameStatus.Completed, findGame.getStatus());
+		Assert.assertEquals(1, findGame.getGameOfficials().size());
+		Assert.assertEquals((short)10, (short)findGame.getBoxScoreHome().getBoxScoreStats().getFreeThrowMade());
+		Assert.assertEquals(2, findGame.getBoxScoreHome().getBoxScorePlayers().size());
+		Assert.assertEquals(1, findGame.getBoxScoreAway().getBoxScorePlayers().size());
+	}
+
+	@Test(expected=IllegalStateException.class)
+	public void complete_NotManaged() {
+		Game game = gameJpaService.findByTeamKeyAndAsOfDate("chicago-bulls", LocalDate.of(2015, 1, 8));
+		game.setStatus(Game.GameStatus.Completed);
+		gameJpaService.complete(game);
+	}
+
+	@Test
+	public void complete_NotFound() {
+		Game completeGame = gameJpaService.complete(new Game());
+		Assert.assertTrue(completeGame.isNotFound());
+	}
+
 	@Test
 	public void delete_Deleted() {
 		Game deleteGame = gameJpaService.delete(12L);
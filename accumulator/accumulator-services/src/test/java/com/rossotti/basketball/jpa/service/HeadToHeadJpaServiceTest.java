@@ -0,0 +1,65 @@
+package com.rossotti.basketball.jpa.service;
+
+import com.rossotti.basketball.jpa.model.HeadToHead;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = com.rossotti.basketball.config.ServiceConfig.class)
+public class HeadToHeadJpaServiceTest {
+
+	private HeadToHeadJpaService headToHeadJpaService;
+
+	@Autowired
+	public void setHeadToHeadJpaService(HeadToHeadJpaService headToHeadJpaService) {
+		this.headToHeadJpaService = headToHeadJpaService;
+	}
+
+	@Test
+	public void recordGame_Created() {
+		HeadToHead headToHead = headToHeadJpaService.recordGame(LocalDate.of(2029, 11, 2), "chicago-zephyr's", "st-louis-bomber's", true);
+		Assert.assertTrue(headToHead.isCreated());
+		Assert.assertEquals(1, headToHead.getGamesPlayed().intValue());
+		Assert.assertEquals(1, headToHead.getGamesWon().intValue());
+	}
+
+	@Test
+	public void recordGame_Updated() {
+		headToHeadJpaService.recordGame(LocalDate.of(2030, 11, 2), "chicago-zephyr's", "st-louis-bomber's", true);
+		HeadToHead headToHead = headToHeadJpaService.recordGame(LocalDate.of(2030, 11, 2), "chicago-zephyr's", "st-louis-bomber's", false);
+		Assert.assertTrue(headToHead.isUpdated());
+		Assert.assertEquals(LocalDate.of(2030, 11, 2), headToHead.getGameDate());
+		Assert.assertEquals(2, headToHead.getGamesPlayed().intValue());
+		Assert.assertEquals(1, headToHead.getGamesWon().intValue());
+	}
+
+	@Test
+	public void findBySeasonThroughDate() {
+		headToHeadJpaService.recordGame(LocalDate.of(2031, 11, 2), "chicago-zephyr's", "st-louis-bomber's", true);
+		headToHeadJpaService.recordGame(LocalDate.of(2031, 12, 5), "chicago-zephyr's", "st-louis-bomber's", false);
+		headToHeadJpaService.recordGame(LocalDate.of(2032, 1, 8), "chicago-zephyr's", "st-louis-bomber's", true);
+		List<HeadToHead> headToHeads = headToHeadJpaService.findBySeasonThroughDate(LocalDate.of(2031, 12, 5));
+		Assert.assertEquals(1, headToHeads.size());
+		Assert.assertEquals("chicago-zephyr's", headToHeads.get(0).getTeamKey());
+		Assert.assertEquals(2, headToHeads.get(0).getGamesPlayed().intValue());
+		Assert.assertEquals(1, headToHeads.get(0).getGamesWon().intValue());
+		headToHeads = headToHeadJpaService.findBySeasonThroughDate(LocalDate.of(2032, 1, 8));
+		Assert.assertEquals(1, headToHeads.size());
+		Assert.assertEquals(3, headToHeads.get(0).getGamesPlayed().intValue());
+		Assert.assertEquals(2, headToHeads.get(0).getGamesWon().intValue());
+	}
+
+	@Test
+	public void deleteBySeason() {
+		headToHeadJpaService.recordGame(LocalDate.of(2032, 11, 2), "chicago-zephyr's", "st-louis-bomber's", true);
+		headToHeadJpaService.deleteBySeason(LocalDate.of(2032, 11, 2));
+		Assert.assertEquals(0, headToHeadJpaService.findBySeasonThroughDate(LocalDate.of(2032, 11, 2)).size());
+	}
+}
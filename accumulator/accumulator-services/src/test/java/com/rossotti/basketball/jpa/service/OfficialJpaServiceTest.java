@@ -80,6 +80,12 @@ public class OfficialJpaServiceTest {
 		Assert.assertTrue(officials.size() >= 3);
 	}
 
+	@Test
+	public void findByDateRange_Found() {
+		List<Official> officials = officialJpaService.findByDateRange(LocalDate.of(2009, 7, 1), LocalDate.of(2010, 6, 30));
+		Assert.assertTrue(officials.size() >= officialJpaService.findByAsOfDate(LocalDate.of(2009, 10, 30)).size());
+	}
+
 	@Test
 	public void findByDateRange_NotFound() {
 		List<Official> officials = officialJpaService.findByAsOfDate(LocalDate.of(1989, 10, 30));
@@ -0,0 +1,85 @@
+package com.rossotti.basketball.jpa.service;
+
+import com.rossotti.basketball.jpa.model.Team;
+import com.rossotti.basketball.jpa.repository.TeamRepository;
+import com.rossotti.basketball.jpa.repository.TeamRepositoryTest;
+import com.rossotti.basketball.jpa.service.impl.TeamJpaServiceImpl;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class TeamJpaServiceSnapshotTest {
+	@Mock
+	private TeamRepository teamRepository;
+
+	private TeamJpaServiceImpl teamJpaService;
+
+	@Before
+	public void setUp() {
+		when(teamRepository.findAll())
+			.thenReturn(Arrays.asList(
+				TeamRepositoryTest.createMockTeam("seattle-supersonics", LocalDate.of(2000, 7, 1), LocalDate.of(2008, 6, 30), "Seattle Supersonics"),
+				TeamRepositoryTest.createMockTeam("seattle-supersonics", LocalDate.of(2008, 7, 1), LocalDate.of(9999, 12, 31), "Seattle Supersonics2")
+			));
+		teamJpaService = new TeamJpaServiceImpl();
+		teamJpaService.setTeamRepository(teamRepository);
+		teamJpaService.refresh();
+	}
+
+	@Test
+	public void findByTeamKeyAndAsOfDate_Snapshot() {
+		Team team = teamJpaService.findByTeamKeyAndAsOfDate("seattle-supersonics", LocalDate.of(2008, 7, 1));
+		Assert.assertEquals("Seattle Supersonics2", team.getFullName());
+		Assert.assertTrue(team.isFound());
+		verify(teamRepository, never()).findByTeamKeyAndFromDateAndToDate(anyString(), any(), any());
+	}
+
+	@Test
+	public void findByLastNameAndAsOfDate_Snapshot() {
+		Team team = teamJpaService.findByLastNameAndAsOfDate("Supersonics", LocalDate.of(2008, 6, 30));
+		Assert.assertEquals("Seattle Supersonics", team.getFullName());
+		verify(teamRepository, never()).findByLastNameAndFromDateAndToDate(anyString(), any(), any());
+	}
+
+	@Test
+	public void findByTeamKeyAndAsOfDate_NotFound() {
+		Team team = teamJpaService.findByTeamKeyAndAsOfDate("seattle-supersonics", LocalDate.of(1999, 7, 1));
+		Assert.assertTrue(team.isNotFound());
+		verify(teamRepository, times(1)).findAll();
+	}
+
+	@Test
+	public void findByTeamKeyAndAsOfDate_NotInSnapshot() {
+		when(teamRepository.findByTeamKeyAndFromDateAndToDate(anyString(), any(), any()))
+			.thenReturn(TeamRepositoryTest.createMockTeam("oklahoma-city-thunder", LocalDate.of(2008, 7, 1), LocalDate.of(9999, 12, 31), "Oklahoma City Thunder"));
+		Team team = teamJpaService.findByTeamKeyAndAsOfDate("oklahoma-city-thunder", LocalDate.of(2008, 7, 1));
+		Assert.assertEquals("Oklahoma City Thunder", team.getFullName());
+		team = teamJpaService.findByTeamKeyAndAsOfDate("oklahoma-city-thunder", LocalDate.of(2010, 7, 1));
+		Assert.assertEquals("Oklahoma City Thunder", team.getFullName());
+		verify(teamRepository, times(1)).findByTeamKeyAndFromDateAndToDate(anyString(), any(), any());
+		verify(teamRepository, times(1)).findAll();
+	}
+
+	@Test
+	public void findByTeamKeyAndAsOfDate_Copy() {
+		Team team = teamJpaService.findByTeamKeyAndAsOfDate("seattle-supersonics", LocalDate.of(2008, 7, 1));
+		team.setFullName("Oklahoma City Thunder");
+		Team otherTeam = teamJpaService.findByTeamKeyAndAsOfDate("seattle-supersonics", LocalDate.of(2008, 7, 1));
+		Assert.assertNotSame(team, otherTeam);
+		Assert.assertEquals("Seattle Supersonics2", otherTeam.getFullName());
+	}
+}
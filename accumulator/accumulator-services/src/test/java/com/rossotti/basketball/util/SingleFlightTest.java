@@ -0,0 +1,119 @@
+package com.rossotti.basketball.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SingleFlightTest {
+
+	@Test
+	public void execute_reuseResult() {
+		SingleFlight<String, String> singleFlight = new SingleFlight<>(60000, result -> true);
+		AtomicInteger calls = new AtomicInteger();
+		Assert.assertEquals("roster1", singleFlight.execute("detroit-pistons", () -> "roster" + calls.incrementAndGet()));
+		Assert.assertEquals("roster1", singleFlight.execute("detroit-pistons", () -> "roster" + calls.incrementAndGet()));
+		Assert.assertEquals(1, calls.get());
+	}
+
+	@Test
+	public void execute_notReusable() {
+		SingleFlight<String, String> singleFlight = new SingleFlight<>(60000, result -> false);
+		AtomicInteger calls = new AtomicInteger();
+		singleFlight.execute("detroit-pistons", calls::incrementAndGet);
+		singleFlight.execute("detroit-pistons", calls::incrementAndGet);
+		Assert.assertEquals(2, calls.get());
+	}
+
+	@Test
+	public void execute_invalidate() {
+		SingleFlight<String, Integer> singleFlight = new SingleFlight<>(60000, result -> true);
+		AtomicInteger calls = new AtomicInteger();
+		singleFlight.execute("detroit-pistons", calls::incrementAndGet);
+		singleFlight.invalidate("detroit-pistons");
+		singleFlight.execute("detroit-pistons", calls::incrementAndGet);
+		Assert.assertEquals(2, calls.get());
+	}
+
+	@Test
+	public void execute_exceptionNotReused() {
+		SingleFlight<String, Integer> singleFlight = new SingleFlight<>(60000, result -> true);
+		try {
+			singleFlight.execute("detroit-pistons", () -> {
+				throw new IllegalStateException("roster exception");
+			});
+			Assert.fail();
+		}
+		catch (IllegalStateException ise) {
+			Assert.assertEquals("roster exception", ise.getMessage());
+		}
+		Assert.assertEquals(Integer.valueOf(5), singleFlight.execute("detroit-pistons", () -> 5));
+	}
+
+	@Test
+	public void execute_errorNotReused() {
+		SingleFlight<String, Integer> singleFlight = new SingleFlight<>(60000, result -> true);
+		try {
+			singleFlight.execute("detroit-pistons", () -> {
+				throw new AssertionError("roster error");
+			});
+			Assert.fail();
+		}
+		catch (AssertionError ae) {
+			Assert.assertEquals("roster error", ae.getMessage());
+		}
+		Assert.assertEquals(0, singleFlight.size());
+		Assert.assertEquals(Integer.valueOf(5), singleFlight.execute("detroit-pistons", () -> 5));
+	}
+
+	@Test
+	public void execute_evictExpired() throws Exception {
+		SingleFlight<String, Integer> singleFlight = new SingleFlight<>(20, result -> true);
+		singleFlight.execute("detroit-pistons", () -> 1);
+		singleFlight.execute("chicago-bulls", () -> 2);
+		Assert.assertEquals(2, singleFlight.size());
+		Thread.sleep(50);
+		singleFlight.execute("utah-jazz", () -> 3);
+		Assert.assertEquals(1, singleFlight.size());
+	}
+
+	@Test
+	public void execute_concurrentCallersShareFlight() throws Exception {
+		SingleFlight<String, Integer> singleFlight = new SingleFlight<>(0, result -> true);
+		AtomicInteger calls = new AtomicInteger();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+		try {
+			Future<Integer> first = executorService.submit(() -> singleFlight.execute("detroit-pistons", () -> {
+				started.countDown();
+				await(release);
+				return calls.incrementAndGet();
+			}));
+			Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+			Future<Integer> second = executorService.submit(() -> singleFlight.execute("detroit-pistons", calls::incrementAndGet));
+			Thread.sleep(100);
+			release.countDown();
+			Assert.assertEquals(Integer.valueOf(1), first.get(5, TimeUnit.SECONDS));
+			Assert.assertEquals(Integer.valueOf(1), second.get(5, TimeUnit.SECONDS));
+			Assert.assertEquals(1, calls.get());
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
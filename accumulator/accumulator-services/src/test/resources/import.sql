@@ -142,3 +142,13 @@ insert into standing (id, teamId, standingDate, rank, ordinalRank, gamesWon, gam
 insert into standing (id, teamId, standingDate, rank, ordinalRank, gamesWon, gamesLost, streak, streakType, streakTotal, gamesBack, pointsFor, pointsAgainst, homeWins, homeLosses, awayWins, awayLosses, conferenceWins, conferenceLosses, lastFive, lastTen, gamesPlayed, pointsScoredPerGame, PointsAllowedPerGame, WinPercentage, PointDifferential, pointDifferentialPerGame) VALUES(4, 4, '2015-10-31', 17, '17th', 1, 0, 1, 'win', 1, 0, 114, 98, 1, 0, 0, 0, 0, 0, '1-0', '1-0', 1, 114, 98, 1.00, 16, 16);
 insert into standing (id, teamId, standingDate, rank, ordinalRank, gamesWon, gamesLost, streak, streakType, streakTotal, gamesBack, pointsFor, pointsAgainst, homeWins, homeLosses, awayWins, awayLosses, conferenceWins, conferenceLosses, lastFive, lastTen, gamesPlayed, pointsScoredPerGame, PointsAllowedPerGame, WinPercentage, PointDifferential, pointDifferentialPerGame) VALUES(5, 5, '2015-10-31', 17, '17th', 1, 0, 1, 'win', 1, 0, 114, 98, 1, 0, 0, 0, 0, 0, '1-0', '1-0', 1, 114, 98, 1.00, 16, 16);
 insert into standing (id, teamId, standingDate, rank, ordinalRank, gamesWon, gamesLost, streak, streakType, streakTotal, gamesBack, pointsFor, pointsAgainst, homeWins, homeLosses, awayWins, awayLosses, conferenceWins, conferenceLosses, lastFive, lastTen, gamesPlayed, pointsScoredPerGame, PointsAllowedPerGame, WinPercentage, PointDifferential, pointDifferentialPerGame) VALUES(6, 6, '2015-10-31', 17, '17th', 1, 0, 1, 'win', 1, 0, 114, 98, 1, 0, 0, 0, 0, 0, '1-0', '1-0', 1, 114, 98, 1.00, 16, 16);
+
+insert into idSequence (sequenceName, nextValue) VALUES('team', 22);
+insert into idSequence (sequenceName, nextValue) VALUES('player', 25);
+insert into idSequence (sequenceName, nextValue) VALUES('rosterPlayer', 30);
+insert into idSequence (sequenceName, nextValue) VALUES('official', 23);
+insert into idSequence (sequenceName, nextValue) VALUES('game', 18);
+insert into idSequence (sequenceName, nextValue) VALUES('gameOfficial', 4);
+insert into idSequence (sequenceName, nextValue) VALUES('boxScore', 35);
+insert into idSequence (sequenceName, nextValue) VALUES('boxScorePlayer', 4);
+insert into idSequence (sequenceName, nextValue) VALUES('standing', 7);
@@ -1,5 +1,6 @@
 package com.rossotti.basketball.config;
 
+import com.zaxxer.hikari.HikariDataSource;
 import org.springframework.batch.core.configuration.annotation.BatchConfigurer;
 import org.springframework.batch.core.configuration.annotation.DefaultBatchConfigurer;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,22 +24,42 @@ public class DatabaseConfig {
     @Primary
     @Bean
     public DataSource dataSourceAccumulate() {
-        DataSourceBuilder dataSourceBuilder = DataSourceBuilder.create();
+        DataSourceBuilder dataSourceBuilder = DataSourceBuilder.create().type(HikariDataSource.class);
         dataSourceBuilder.driverClassName(env.getRequiredProperty("db.accumulate.driver"));
         dataSourceBuilder.url(env.getRequiredProperty("db.accumulate.url"));
         dataSourceBuilder.username(env.getRequiredProperty("db.accumulate.username"));
         dataSourceBuilder.password(env.getRequiredProperty("db.accumulate.password"));
-        return dataSourceBuilder.build();
+        return configurePool((HikariDataSource) dataSourceBuilder.build(), "accumulate");
     }
 
     @Bean
     public DataSource dataSourceAggregate() {
-        DataSourceBuilder dataSourceBuilder = DataSourceBuilder.create();
+        DataSourceBuilder dataSourceBuilder = DataSourceBuilder.create().type(HikariDataSource.class);
         dataSourceBuilder.driverClassName(env.getRequiredProperty("db.aggregate.driver"));
         dataSourceBuilder.url(env.getRequiredProperty("db.aggregate.url"));
         dataSourceBuilder.username(env.getRequiredProperty("db.aggregate.username"));
         dataSourceBuilder.password(env.getRequiredProperty("db.aggregate.password"));
-        return dataSourceBuilder.build();
+        return configurePool((HikariDataSource) dataSourceBuilder.build(), "aggregate");
+    }
+
+    private HikariDataSource configurePool(HikariDataSource dataSource, String name) {
+        String prefix = "db." + name + ".pool.";
+        dataSource.setPoolName(name);
+        dataSource.setMaximumPoolSize(env.getProperty(prefix + "maximumPoolSize", Integer.class, 10));
+        dataSource.setMinimumIdle(env.getProperty(prefix + "minimumIdle", Integer.class, 2));
+        dataSource.setConnectionTimeout(env.getProperty(prefix + "connectionTimeout", Long.class, 30000L));
+        dataSource.setIdleTimeout(env.getProperty(prefix + "idleTimeout", Long.class, 600000L));
+        dataSource.setMaxLifetime(env.getProperty(prefix + "maxLifetime", Long.class, 1800000L));
+        dataSource.setLeakDetectionThreshold(env.getProperty(prefix + "leakDetectionThreshold", Long.class, 60000L));
+        // pool statistics (active, idle, total and waiting connections) are published as jmx beans
+        dataSource.setRegisterMbeans(env.getProperty(prefix + "registerMbeans", Boolean.class, true));
+        if (dataSource.getJdbcUrl().startsWith("jdbc:mysql")) {
+            dataSource.addDataSourceProperty("cachePrepStmts", env.getProperty(prefix + "cachePrepStmts", "true"));
+            dataSource.addDataSourceProperty("prepStmtCacheSize", env.getProperty(prefix + "prepStmtCacheSize", "250"));
+            dataSource.addDataSourceProperty("prepStmtCacheSqlLimit", env.getProperty(prefix + "prepStmtCacheSqlLimit", "2048"));
+            dataSource.addDataSourceProperty("useServerPrepStmts", env.getProperty(prefix + "useServerPrepStmts", "true"));
+        }
+        return dataSource;
     }
 
     @Bean